@@ -0,0 +1,302 @@
+//
+// PrivMX Endpoint Java Extra.
+// Copyright © 2025 Simplito sp. z o.o.
+//
+// This file is part of the PrivMX Platform (https://privmx.dev).
+// This software is Licensed under the MIT License.
+//
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+package com.simplito.java.privmx_endpoint_extra.events;
+
+import com.simplito.java.privmx_endpoint.model.Event;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Bounded ring buffer of events with configurable overflow policy.
+ * It limits the number of events waiting for callbacks and counts
+ * enqueued, dropped and coalesced events.
+ * Closing the buffer wakes up threads waiting in {@link #offer(Event)} and {@link #poll(long, TimeUnit)}.
+ *
+ * @category core
+ */
+public class BoundedEventBuffer {
+
+    /**
+     * Defines what happens when an event is added to a full buffer.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Waits until there is space in the buffer.
+         */
+        BLOCK,
+        /**
+         * Drops the oldest buffered event.
+         */
+        DROP_OLDEST,
+        /**
+         * Drops the added event.
+         */
+        DROP_NEWEST,
+        /**
+         * Replaces buffered event with the same key. If there is no such event, drops the oldest one.
+         * Coalescing is done regardless of the buffer being full.
+         */
+        COALESCE
+    }
+
+    private final Event<?>[] events;
+    private final Object[] keys;
+    private final OverflowPolicy policy;
+    private final Function<Event<?>, ?> coalesceKey;
+    private final Map<Object, Long> keySequences = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private long head = 0;
+    private long tail = 0;
+    private boolean closed = false;
+
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+    private final AtomicLong maxDepth = new AtomicLong();
+
+    /**
+     * Creates instance of {@code BoundedEventBuffer}.
+     *
+     * @param capacity maximum number of buffered events
+     * @param policy   overflow policy, {@link OverflowPolicy#COALESCE} requires key function
+     * @throws IllegalArgumentException when {@code capacity} is not greater than 0
+     *                                  or {@code policy} is {@link OverflowPolicy#COALESCE}
+     */
+    public BoundedEventBuffer(int capacity, OverflowPolicy policy) throws IllegalArgumentException {
+        this(capacity, policy, null);
+    }
+
+    /**
+     * Creates instance of {@code BoundedEventBuffer} using {@link OverflowPolicy#COALESCE} policy.
+     *
+     * @param capacity    maximum number of buffered events
+     * @param coalesceKey returns key of events replacing each other, {@code null} key disables coalescing for the event
+     * @throws IllegalArgumentException when {@code capacity} is not greater than 0
+     */
+    public BoundedEventBuffer(int capacity, Function<Event<?>, ?> coalesceKey) throws IllegalArgumentException {
+        this(capacity, OverflowPolicy.COALESCE, coalesceKey);
+    }
+
+    private BoundedEventBuffer(int capacity, OverflowPolicy policy, Function<Event<?>, ?> coalesceKey) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be greater than 0");
+        }
+        if (policy == null) {
+            throw new IllegalArgumentException("Policy cannot be null");
+        }
+        if (policy == OverflowPolicy.COALESCE && coalesceKey == null) {
+            throw new IllegalArgumentException("Coalesce policy requires key function");
+        }
+        this.events = new Event<?>[capacity];
+        this.keys = new Object[capacity];
+        this.policy = policy;
+        this.coalesceKey = coalesceKey;
+    }
+
+    /**
+     * Adds event to the buffer, applying overflow policy when it is full.
+     *
+     * @param event event to add
+     * @return {@code false} if {@code event} was dropped or the buffer is closed
+     * @throws InterruptedException when interrupted while waiting with {@link OverflowPolicy#BLOCK} policy
+     */
+    public boolean offer(Event<?> event) throws InterruptedException {
+        Object key = policy == OverflowPolicy.COALESCE ? coalesceKey.apply(event) : null;
+        lock.lockInterruptibly();
+        try {
+            if (closed) return false;
+            if (key != null) {
+                Long sequence = keySequences.get(key);
+                if (sequence != null) {
+                    events[index(sequence)] = event;
+                    coalescedCount.incrementAndGet();
+                    return true;
+                }
+            }
+            while (tail - head == events.length) {
+                switch (policy) {
+                    case BLOCK:
+                        notFull.await();
+                        if (closed) return false;
+                        break;
+                    case DROP_NEWEST:
+                        droppedCount.incrementAndGet();
+                        return false;
+                    default:
+                        removeFirst();
+                        droppedCount.incrementAndGet();
+                }
+            }
+            events[index(tail)] = event;
+            keys[index(tail)] = key;
+            if (key != null) {
+                keySequences.put(key, tail);
+            }
+            tail++;
+            enqueuedCount.incrementAndGet();
+            maxDepth.accumulateAndGet(tail - head, Math::max);
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the oldest event, waiting up to given time if the buffer is empty.
+     *
+     * @param timeout maximum time to wait
+     * @param unit    unit of {@code timeout}
+     * @return the oldest event or {@code null} if no event arrived before timeout or the buffer is closed
+     * @throws InterruptedException when interrupted while waiting
+     */
+    public Event<?> poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (tail == head || closed) {
+                if (nanos <= 0 || closed) return null;
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            Event<?> event = removeFirst();
+            notFull.signal();
+            return event;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns all buffered events, also when the buffer is closed.
+     *
+     * @return buffered events from the oldest one
+     */
+    public List<Event<?>> drain() {
+        lock.lock();
+        try {
+            List<Event<?>> result = new ArrayList<>((int) (tail - head));
+            while (tail != head) {
+                result.add(removeFirst());
+            }
+            notFull.signalAll();
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes the buffer. Waiting and subsequent calls of {@link #offer(Event)} return {@code false}
+     * and calls of {@link #poll(long, TimeUnit)} return {@code null}. Buffered events can still be taken with {@link #drain()}.
+     */
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            notFull.signalAll();
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns information whether the buffer is closed.
+     *
+     * @return {@code true} if the buffer is closed
+     */
+    public boolean isClosed() {
+        lock.lock();
+        try {
+            return closed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns number of buffered events.
+     *
+     * @return number of buffered events
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return (int) (tail - head);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns number of events added to the buffer, excluding dropped and coalesced ones.
+     *
+     * @return number of enqueued events
+     */
+    public long getEnqueuedCount() {
+        return enqueuedCount.get();
+    }
+
+    /**
+     * Returns number of events dropped due to overflow.
+     *
+     * @return number of dropped events
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Returns number of buffered events replaced by newer events with the same key.
+     *
+     * @return number of coalesced events
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    /**
+     * Returns the highest number of events buffered at once.
+     *
+     * @return maximum depth of the buffer
+     */
+    public long getMaxDepth() {
+        return maxDepth.get();
+    }
+
+    private Event<?> removeFirst() {
+        int index = index(head);
+        Event<?> event = events[index];
+        Object key = keys[index];
+        if (key != null) {
+            keySequences.remove(key, head);
+        }
+        events[index] = null;
+        keys[index] = null;
+        head++;
+        return event;
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence % events.length);
+    }
+}
@@ -14,21 +14,27 @@ package com.simplito.java.privmx_endpoint_extra.events;
 
 import com.simplito.java.privmx_endpoint.model.Event;
 
-import java.util.AbstractMap;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Vector;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Implements a list of registered event callbacks.
+ * Callbacks are indexed by channel and type, so emitting is a lock-free lookup
+ * and registering or unbinding touches only the affected channels.
  *
  * @category core
  */
 public class EventDispatcher {
 
-    private final Map<String, List<Pair>> map = new HashMap<>();
+    private static final Pair[] NO_CALLBACKS = new Pair[0];
+
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+    private final Map<Object, List<Registration>> registrations = new IdentityHashMap<>();
+    private final Object lock = new Object();
     private final EventCallback<String> onRemoveEntryKey;
 
     /**
@@ -42,10 +48,6 @@ public class EventDispatcher {
         this.onRemoveEntryKey = onRemoveEntryKey;
     }
 
-    private String getFormattedType(String channel, String type) {
-        return channel + "_" + type;
-    }
-
     /**
      * Registers new event callback.
      *
@@ -56,9 +58,20 @@ public class EventDispatcher {
      * @return {@code true} if the channel is not already subscribed
      */
     public boolean register(String channel, String type, Object context, EventCallback<?> callback) {
-        boolean needSubscribe = channelHasNoCallbacks(channel);
-        getCallbacks(getFormattedType(channel, type)).add(new Pair(context, callback));
-        return needSubscribe;
+        synchronized (lock) {
+            Channel entry = channels.get(channel);
+            boolean needSubscribe = entry == null;
+            if (needSubscribe) {
+                entry = new Channel();
+                channels.put(channel, entry);
+            }
+            Pair pair = new Pair(context, callback);
+            entry.add(type, pair);
+            registrations
+                    .computeIfAbsent(context, it -> new ArrayList<>())
+                    .add(new Registration(channel, type, pair));
+            return needSubscribe;
+        }
     }
 
     /**
@@ -68,7 +81,10 @@ public class EventDispatcher {
      * @param event event data to emit
      */
     public <T> void emit(Event<T> event) {
-        List<Pair> callbacks = getCallbacks(getFormattedType(event.channel, event.type));
+        if (event.channel == null || event.type == null) return;
+        Channel entry = channels.get(event.channel);
+        if (entry == null) return;
+        Pair[] callbacks = entry.get(event.type);
         for (Pair p : callbacks) {
             try {
                 EventCallback<T> e = (EventCallback<T>) p.callback;
@@ -82,37 +98,24 @@ public class EventDispatcher {
         }
     }
 
-    private boolean channelHasNoCallbacks(String channel) {
-        synchronized (map) {
-            return map
-                    .entrySet()
-                    .stream()
-                    .filter(it -> it.getKey().split("_")[0].equals(channel))
-                    .mapToLong(it -> it.getValue().size())
-                    .sum() == 0;
-        }
-    }
-
     /**
      * Removes all callbacks registered by {@link #register(String, String, Object, EventCallback)}. It's identified by given Context.
      *
      * @param context callback identifier
      */
     public void unbind(Object context) {
-        synchronized (map) {
-            map.entrySet()
-                    .stream()
-                    .map(entry ->
-                            new AbstractMap.SimpleImmutableEntry<>(entry.getKey().split("_")[0], entry.getValue())
-                    )
-                    .filter(entry -> !entry.getValue().isEmpty())
-                    .forEach(entry -> {
-                        List<Pair> list = entry.getValue();
-                        list.removeIf(pair -> pair.context == context);
-                        if (channelHasNoCallbacks(entry.getKey())) {
-                            onRemoveEntryKey.call(entry.getKey());
-                        }
-                    });
+        synchronized (lock) {
+            List<Registration> contextRegistrations = registrations.remove(context);
+            if (contextRegistrations == null) return;
+            for (Registration registration : contextRegistrations) {
+                Channel entry = channels.get(registration.channel);
+                if (entry == null) continue;
+                entry.remove(registration.type, registration.pair);
+                if (entry.count == 0) {
+                    channels.remove(registration.channel);
+                    onRemoveEntryKey.call(registration.channel);
+                }
+            }
         }
     }
 
@@ -120,20 +123,61 @@ public class EventDispatcher {
      * Removes all callbacks.
      */
     public void unbindAll() {
-        map.keySet()
-                .stream()
-                .map(it -> it.split("_")[0])
-                .collect(Collectors.toSet())
-                .forEach(onRemoveEntryKey::call);
-        map.clear();
+        synchronized (lock) {
+            channels.keySet().forEach(onRemoveEntryKey::call);
+            channels.clear();
+            registrations.clear();
+        }
     }
 
-    private List<Pair> getCallbacks(String type) {
-        synchronized (map) {
-            if (!map.containsKey(type)) {
-                map.put(type, new Vector<>());
+    /**
+     * Callbacks of a single channel. Arrays are replaced on every change,
+     * so readers can iterate them without locking. Modified only under {@link #lock}.
+     */
+    private static class Channel {
+        private final Map<String, Pair[]> callbacks = new ConcurrentHashMap<>();
+        private int count;
+
+        private Pair[] get(String type) {
+            Pair[] typeCallbacks = callbacks.get(type);
+            return typeCallbacks == null ? NO_CALLBACKS : typeCallbacks;
+        }
+
+        private void add(String type, Pair pair) {
+            Pair[] current = get(type);
+            Pair[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = pair;
+            callbacks.put(type, updated);
+            count++;
+        }
+
+        private void remove(String type, Pair pair) {
+            Pair[] current = get(type);
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] != pair) continue;
+                if (current.length == 1) {
+                    callbacks.remove(type);
+                } else {
+                    Pair[] updated = new Pair[current.length - 1];
+                    System.arraycopy(current, 0, updated, 0, i);
+                    System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                    callbacks.put(type, updated);
+                }
+                count--;
+                return;
             }
-            return map.get(type);
+        }
+    }
+
+    private static class Registration {
+        private final String channel;
+        private final String type;
+        private final Pair pair;
+
+        private Registration(String channel, String type, Pair pair) {
+            this.channel = channel;
+            this.type = type;
+            this.pair = pair;
         }
     }
 
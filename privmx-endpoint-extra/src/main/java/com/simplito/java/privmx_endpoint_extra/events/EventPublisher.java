@@ -0,0 +1,31 @@
+//
+// PrivMX Endpoint Java Extra.
+// Copyright © 2025 Simplito sp. z o.o.
+//
+// This file is part of the PrivMX Platform (https://privmx.dev).
+// This software is Licensed under the MIT License.
+//
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+package com.simplito.java.privmx_endpoint_extra.events;
+
+/**
+ * Source of events delivered according to demand signalled by its subscriber.
+ * It follows the contract of Reactive Streams publishers, so it can be adapted
+ * to {@code java.util.concurrent.Flow.Publisher} on Java 9 and newer.
+ *
+ * @param <T> type of published items
+ * @category core
+ */
+public interface EventPublisher<T> {
+
+    /**
+     * Subscribes to events.
+     *
+     * @param subscriber subscriber receiving events
+     */
+    void subscribe(EventSubscriber<? super T> subscriber);
+
+}
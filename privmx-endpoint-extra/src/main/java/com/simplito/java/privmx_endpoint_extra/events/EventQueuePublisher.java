@@ -0,0 +1,247 @@
+//
+// PrivMX Endpoint Java Extra.
+// Copyright © 2025 Simplito sp. z o.o.
+//
+// This file is part of the PrivMX Platform (https://privmx.dev).
+// This software is Licensed under the MIT License.
+//
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+package com.simplito.java.privmx_endpoint_extra.events;
+
+import com.simplito.java.privmx_endpoint.model.Event;
+import com.simplito.java.privmx_endpoint.modules.core.EventQueue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Publishes events read from {@link EventQueue}, reading only as many events as its subscriber requested.
+ * Events that were not requested stay in the native queue, so slow subscribers are not
+ * a reason to buffer events in Java. It completes after receiving {@link EventType#LibBreakEvent}.
+ * <p>
+ * It reads the same queue as the event loop of {@code PrivmxEndpointContainer},
+ * so it should not be used together with {@code startListening()}.
+ * Only one subscriber can be subscribed at the same time.
+ * Events read from the queue but not delivered because the subscription was cancelled or terminated
+ * are kept by the publisher and delivered first to its next subscriber.
+ *
+ * @category core
+ */
+public class EventQueuePublisher implements EventPublisher<Event<?>> {
+    private static final int MAX_BATCH_SIZE = 256;
+    private static final long EVENT_WAIT_TIMEOUT_MILLIS = 1000;
+
+    private final AtomicBoolean subscribed = new AtomicBoolean(false);
+    private final ArrayDeque<Event<?>> undelivered = new ArrayDeque<>();
+
+    /**
+     * Creates instance of {@code EventQueuePublisher}.
+     */
+    public EventQueuePublisher() {
+    }
+
+    @Override
+    public void subscribe(EventSubscriber<? super Event<?>> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber cannot be null");
+        }
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new EventSubscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("Publisher already has a subscriber"));
+            return;
+        }
+        new QueueSubscription(subscriber).start();
+    }
+
+    /**
+     * Returns publisher of data of events with given type.
+     * Channel of the event type has to be subscribed separately, e.g. by registering a callback for it.
+     * Events are filtered after reading them from the queue and each skipped event is requested again,
+     * so other events read while subscribed are consumed without being published.
+     * Events without data (e.g. library events) are not published.
+     *
+     * @param eventType type of published events
+     * @param <T>       type of event data
+     * @return publisher of data of matching events
+     */
+    public <T> EventPublisher<T> ofType(EventType<T> eventType) {
+        return subscriber -> subscribe(new TypedSubscriber<>(eventType, subscriber));
+    }
+
+    private List<Event<?>> takeUndelivered(int maxEvents) {
+        synchronized (undelivered) {
+            List<Event<?>> events = new ArrayList<>(Math.min(maxEvents, undelivered.size()));
+            while (events.size() < maxEvents && !undelivered.isEmpty()) {
+                events.add(undelivered.pollFirst());
+            }
+            return events;
+        }
+    }
+
+    private void returnUndelivered(List<Event<?>> events) {
+        synchronized (undelivered) {
+            for (int i = events.size() - 1; i >= 0; i--) {
+                undelivered.addFirst(events.get(i));
+            }
+        }
+    }
+
+    private class QueueSubscription implements EventSubscription {
+        private final EventSubscriber<? super Event<?>> subscriber;
+        private final ExecutorService executor = Executors.newSingleThreadExecutor();
+        private long demand = 0;
+        private boolean reading = false;
+        private boolean done = false;
+
+        private QueueSubscription(EventSubscriber<? super Event<?>> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        private void start() {
+            executor.execute(() -> subscriber.onSubscribe(this));
+        }
+
+        @Override
+        public void request(long n) {
+            synchronized (this) {
+                if (done) return;
+                if (n <= 0) {
+                    finish();
+                    executor.execute(() -> subscriber.onError(
+                            new IllegalArgumentException("Requested number of events must be greater than 0")
+                    ));
+                    executor.shutdown();
+                    return;
+                }
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                if (reading) return;
+                reading = true;
+            }
+            executor.execute(this::read);
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                if (done) return;
+                finish();
+            }
+            executor.shutdown();
+        }
+
+        private void read() {
+            while (true) {
+                int batchSize;
+                synchronized (this) {
+                    if (done || demand == 0) {
+                        reading = false;
+                        return;
+                    }
+                    batchSize = (int) Math.min(demand, MAX_BATCH_SIZE);
+                }
+                List<Event<?>> events = takeUndelivered(batchSize);
+                if (events.isEmpty()) {
+                    try {
+                        events = EventQueue.drainEvents(batchSize, EVENT_WAIT_TIMEOUT_MILLIS);
+                    } catch (Exception e) {
+                        terminate(() -> subscriber.onError(e));
+                        return;
+                    }
+                }
+                for (int i = 0; i < events.size(); i++) {
+                    Event<?> event = events.get(i);
+                    // Events that could not be converted are skipped
+                    if (event == null) continue;
+                    synchronized (this) {
+                        if (done) {
+                            returnUndelivered(events.subList(i, events.size()));
+                            return;
+                        }
+                        if (demand != Long.MAX_VALUE) demand--;
+                    }
+                    if (event.type.equals(EventType.LibBreakEvent.eventType)) {
+                        returnUndelivered(events.subList(i + 1, events.size()));
+                        terminate(subscriber::onComplete);
+                        return;
+                    }
+                    try {
+                        subscriber.onNext(event);
+                    } catch (Exception e) {
+                        returnUndelivered(events.subList(i + 1, events.size()));
+                        terminate(() -> subscriber.onError(e));
+                        return;
+                    }
+                }
+            }
+        }
+
+        private void terminate(Runnable signal) {
+            synchronized (this) {
+                if (done) return;
+                finish();
+            }
+            signal.run();
+            executor.shutdown();
+        }
+
+        private void finish() {
+            done = true;
+            reading = false;
+            subscribed.set(false);
+        }
+    }
+
+    private static class TypedSubscriber<T> implements EventSubscriber<Event<?>> {
+        private final EventType<T> eventType;
+        private final EventSubscriber<? super T> subscriber;
+        private EventSubscription subscription;
+
+        private TypedSubscriber(EventType<T> eventType, EventSubscriber<? super T> subscriber) {
+            this.eventType = eventType;
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void onSubscribe(EventSubscription subscription) {
+            this.subscription = subscription;
+            subscriber.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(Event<?> item) {
+            if (eventType.eventType.equals(item.type)
+                    && eventType.channel.equals(item.channel)
+                    && eventType.eventResultClass.isInstance(item.data)) {
+                subscriber.onNext(eventType.eventResultClass.cast(item.data));
+            } else {
+                // Skipped event did not satisfy the subscriber's demand
+                subscription.request(1);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            subscriber.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            subscriber.onComplete();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+//
+// PrivMX Endpoint Java Extra.
+// Copyright © 2025 Simplito sp. z o.o.
+//
+// This file is part of the PrivMX Platform (https://privmx.dev).
+// This software is Licensed under the MIT License.
+//
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+package com.simplito.java.privmx_endpoint_extra.events;
+
+/**
+ * Receives events from {@link EventPublisher} according to requested demand.
+ * Methods are called sequentially, never concurrently.
+ *
+ * @param <T> type of received items
+ * @category core
+ */
+public interface EventSubscriber<T> {
+
+    /**
+     * Called once after subscribing. No events are delivered until
+     * {@link EventSubscription#request(long)} is called.
+     *
+     * @param subscription subscription controlling delivered events
+     */
+    void onSubscribe(EventSubscription subscription);
+
+    /**
+     * Called with the next event.
+     *
+     * @param item received item
+     */
+    void onNext(T item);
+
+    /**
+     * Called when delivery failed. No further methods are called.
+     *
+     * @param throwable cause of the failure
+     */
+    void onError(Throwable throwable);
+
+    /**
+     * Called when the event stream has finished. No further methods are called.
+     */
+    void onComplete();
+
+}
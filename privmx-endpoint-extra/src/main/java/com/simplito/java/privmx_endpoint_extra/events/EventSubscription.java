@@ -0,0 +1,34 @@
+//
+// PrivMX Endpoint Java Extra.
+// Copyright © 2025 Simplito sp. z o.o.
+//
+// This file is part of the PrivMX Platform (https://privmx.dev).
+// This software is Licensed under the MIT License.
+//
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+package com.simplito.java.privmx_endpoint_extra.events;
+
+/**
+ * Link between {@link EventPublisher} and {@link EventSubscriber} controlling flow of events.
+ *
+ * @category core
+ */
+public interface EventSubscription {
+
+    /**
+     * Requests delivery of up to {@code n} more events.
+     * Publisher reads no more events than the subscriber requested.
+     *
+     * @param n number of additional events, must be greater than 0
+     */
+    void request(long n);
+
+    /**
+     * Stops delivery of events. Events that were not read remain in the source queue.
+     */
+    void cancel();
+
+}
@@ -0,0 +1,151 @@
+//
+// PrivMX Endpoint Java Extra.
+// Copyright © 2025 Simplito sp. z o.o.
+//
+// This file is part of the PrivMX Platform (https://privmx.dev).
+// This software is Licensed under the MIT License.
+//
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+package com.simplito.java.privmx_endpoint_extra.events;
+
+import com.simplito.java.privmx_endpoint.model.Event;
+import com.simplito.java.privmx_endpoint.model.events.StoreStatsChangedEventData;
+import com.simplito.java.privmx_endpoint.model.events.ThreadStatsEventData;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collapses bursts of {@link EventType#ThreadStatsChangedEvent} and {@link EventType#StoreStatsChangedEvent} events.
+ * The first stats event of a thread or store starts a time window; when the window ends,
+ * only the latest event received for that container within it is passed downstream.
+ * Other events are not handled by the coalescer.
+ *
+ * @category core
+ */
+public class StatsEventCoalescer implements AutoCloseable {
+    private final long windowMillis;
+    private final EventCallback<Event<?>> downstream;
+    private final Map<Key, Event<?>> pending = new HashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        java.lang.Thread thread = new java.lang.Thread(runnable, "StatsEventCoalescer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Creates instance of {@code StatsEventCoalescer}.
+     *
+     * @param windowMillis time window in milliseconds in which stats events of the same container are collapsed
+     * @param downstream   callback receiving coalesced events, called from the coalescer's thread
+     * @throws IllegalArgumentException when {@code windowMillis} is not greater than 0
+     */
+    public StatsEventCoalescer(long windowMillis, EventCallback<Event<?>> downstream) throws IllegalArgumentException {
+        if (windowMillis <= 0) {
+            throw new IllegalArgumentException("Window must be greater than 0");
+        }
+        this.windowMillis = windowMillis;
+        this.downstream = downstream;
+    }
+
+    /**
+     * Passes event to the coalescer.
+     *
+     * @param event received event
+     * @return {@code true} if the event was taken by the coalescer, {@code false} if it is not a stats event
+     * and should be handled by the caller
+     */
+    public boolean offer(Event<?> event) {
+        Key key = keyOf(event);
+        if (key == null) return false;
+        synchronized (pending) {
+            if (pending.put(key, event) == null) {
+                scheduler.schedule(() -> flush(key), windowMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Immediately passes downstream all events waiting for the end of their window.
+     */
+    public void flush() {
+        List<Event<?>> events;
+        synchronized (pending) {
+            events = new ArrayList<>(pending.values());
+            pending.clear();
+        }
+        events.forEach(this::deliver);
+    }
+
+    /**
+     * Passes downstream waiting events and stops the coalescer.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        flush();
+    }
+
+    private void flush(Key key) {
+        Event<?> event;
+        synchronized (pending) {
+            event = pending.remove(key);
+        }
+        if (event != null) deliver(event);
+    }
+
+    private void deliver(Event<?> event) {
+        try {
+            downstream.call(event);
+        } catch (Exception e) {
+            System.out.println("Catch event exception: " + e.getMessage());
+        }
+    }
+
+    private static Key keyOf(Event<?> event) {
+        if (event.data instanceof ThreadStatsEventData) {
+            return new Key(event.connectionId, event.channel, ((ThreadStatsEventData) event.data).threadId);
+        }
+        if (event.data instanceof StoreStatsChangedEventData) {
+            return new Key(event.connectionId, event.channel, ((StoreStatsChangedEventData) event.data).storeId);
+        }
+        return null;
+    }
+
+    private static class Key {
+        private final Long connectionId;
+        private final String channel;
+        private final String containerId;
+
+        private Key(Long connectionId, String channel, String containerId) {
+            this.connectionId = connectionId;
+            this.channel = channel;
+            this.containerId = containerId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return Objects.equals(connectionId, key.connectionId)
+                    && Objects.equals(channel, key.channel)
+                    && Objects.equals(containerId, key.containerId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(connectionId, channel, containerId);
+        }
+    }
+}
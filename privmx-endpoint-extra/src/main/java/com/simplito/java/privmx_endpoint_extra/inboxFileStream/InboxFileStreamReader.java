@@ -14,6 +14,8 @@ package com.simplito.java.privmx_endpoint_extra.inboxFileStream;
 import com.simplito.java.privmx_endpoint.model.exceptions.NativeException;
 import com.simplito.java.privmx_endpoint.model.exceptions.PrivmxException;
 import com.simplito.java.privmx_endpoint.modules.inbox.InboxApi;
+import com.simplito.java.privmx_endpoint_extra.storeFileStream.AdaptiveChunkSizer;
+import com.simplito.java.privmx_endpoint_extra.storeFileStream.PrefetchingInputStream;
 import com.simplito.java.privmx_endpoint_extra.storeFileStream.StoreFileStream;
 
 import java.io.IOException;
@@ -97,14 +99,19 @@ public class InboxFileStreamReader extends InboxFileStream {
         if (streamController != null) {
             input.setProgressListener(streamController);
         }
+        AdaptiveChunkSizer chunkSizer = streamController != null ? streamController.getChunkSizer() : null;
         byte[] chunk;
+        long chunkSize;
         do {
             if (streamController != null && streamController.isStopped()) {
                 input.close();
             }
-            chunk = input.read(InboxFileStream.OPTIMAL_SEND_SIZE);
+            chunkSize = chunkSizer != null ? chunkSizer.getChunkSize() : InboxFileStream.OPTIMAL_SEND_SIZE;
+            long start = System.nanoTime();
+            chunk = input.read(chunkSize);
+            if (chunkSizer != null) chunkSizer.record(chunk.length, System.nanoTime() - start);
             outputStream.write(chunk);
-        } while (chunk.length == InboxFileStream.OPTIMAL_SEND_SIZE);
+        } while (chunk.length == chunkSize);
 
         return input.close();
     }
@@ -126,6 +133,38 @@ public class InboxFileStreamReader extends InboxFileStream {
         return result;
     }
 
+    /**
+     * Returns {@link PrefetchingInputStream} reading this file from the current cursor position
+     * in chunks of size {@link InboxFileStream#OPTIMAL_SEND_SIZE}.
+     * Closing the stream closes this file.
+     *
+     * @param prefetchChunks maximum number of chunks read ahead of the consumer
+     * @return stream reading this file
+     */
+    public PrefetchingInputStream asInputStream(int prefetchChunks) {
+        return asInputStream(prefetchChunks, -1);
+    }
+
+    /**
+     * Returns {@link PrefetchingInputStream} reading {@code size} bytes of this file from the current cursor
+     * position in chunks of size {@link InboxFileStream#OPTIMAL_SEND_SIZE}.
+     * Passing size of the file, e.g. from {@code InboxEntry.files}, avoids an additional empty read at the end.
+     * Closing the stream closes this file.
+     *
+     * @param prefetchChunks maximum number of chunks read ahead of the consumer
+     * @param size           number of bytes left to read, or {@code -1} if unknown
+     * @return stream reading this file
+     */
+    public PrefetchingInputStream asInputStream(int prefetchChunks, long size) {
+        return new PrefetchingInputStream(
+                this::read,
+                this::close,
+                size,
+                InboxFileStream.OPTIMAL_SEND_SIZE,
+                prefetchChunks
+        );
+    }
+
     /**
      * Moves read cursor.
      *
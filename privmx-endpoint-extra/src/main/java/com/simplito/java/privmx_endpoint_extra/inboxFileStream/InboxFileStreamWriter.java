@@ -14,6 +14,7 @@ package com.simplito.java.privmx_endpoint_extra.inboxFileStream;
 import com.simplito.java.privmx_endpoint.model.exceptions.NativeException;
 import com.simplito.java.privmx_endpoint.model.exceptions.PrivmxException;
 import com.simplito.java.privmx_endpoint.modules.inbox.InboxApi;
+import com.simplito.java.privmx_endpoint_extra.storeFileStream.AdaptiveChunkSizer;
 import com.simplito.java.privmx_endpoint_extra.storeFileStream.StoreFileStream;
 
 import java.io.IOException;
@@ -101,16 +102,22 @@ public class InboxFileStreamWriter extends InboxFileStream {
         if (streamController != null) {
             setProgressListener(streamController);
         }
+        AdaptiveChunkSizer chunkSizer = streamController != null ? streamController.getChunkSizer() : null;
         byte[] chunk = new byte[(int) InboxFileStream.OPTIMAL_SEND_SIZE];
         int read;
         while (true) {
             if (streamController != null && streamController.isStopped()) {
                 return;
             }
+            if (chunkSizer != null && chunk.length != chunkSizer.getChunkSize()) {
+                chunk = new byte[(int) chunkSizer.getChunkSize()];
+            }
             if ((read = inputStream.read(chunk)) <= 0) {
                 return;
             }
+            long start = System.nanoTime();
             write(inboxHandle, Arrays.copyOf(chunk, read));
+            if (chunkSizer != null) chunkSizer.record(read, System.nanoTime() - start);
         }
     }
 }
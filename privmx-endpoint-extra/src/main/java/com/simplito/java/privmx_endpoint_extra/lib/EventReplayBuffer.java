@@ -0,0 +1,103 @@
+//
+// PrivMX Endpoint Java Extra.
+// Copyright © 2025 Simplito sp. z o.o.
+//
+// This file is part of the PrivMX Platform (https://privmx.dev).
+// This software is Licensed under the MIT License.
+//
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+package com.simplito.java.privmx_endpoint_extra.lib;
+
+import com.simplito.java.privmx_endpoint.model.Event;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the latest events of each channel, numbered with increasing sequence numbers.
+ * Each channel keeps at most {@code maxEventsPerChannel} events not older than {@code maxAgeMillis}.
+ * It is not thread-safe, callers synchronize on the instance.
+ */
+class EventReplayBuffer {
+    private final int maxEventsPerChannel;
+    private final long maxAgeMillis;
+    private final Map<String, ArrayDeque<Entry>> channels = new HashMap<>();
+    private long sequence = 0;
+
+    EventReplayBuffer(int maxEventsPerChannel, long maxAgeMillis) {
+        this.maxEventsPerChannel = maxEventsPerChannel;
+        this.maxAgeMillis = maxAgeMillis;
+    }
+
+    void record(Event<?> event) {
+        long now = System.currentTimeMillis();
+        ArrayDeque<Entry> entries = channels.computeIfAbsent(event.channel, it -> new ArrayDeque<>());
+        entries.addLast(new Entry(++sequence, now, event));
+        if (entries.size() > maxEventsPerChannel) {
+            entries.removeFirst();
+        }
+        removeExpired(entries, now);
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+
+    long getSequence(long timestampMillis) {
+        long result = 0;
+        long oldest = sequence;
+        for (ArrayDeque<Entry> entries : channels.values()) {
+            for (Entry entry : entries) {
+                oldest = Math.min(oldest, entry.sequence - 1);
+                if (entry.timestamp <= timestampMillis) {
+                    result = Math.max(result, entry.sequence);
+                }
+            }
+        }
+        // Without buffered events before the timestamp, replay everything that is still buffered
+        return result == 0 ? oldest : result;
+    }
+
+    List<Event<?>> replay(String channel, String type, long afterSequence) {
+        List<Event<?>> result = new ArrayList<>();
+        ArrayDeque<Entry> entries = channels.get(channel);
+        if (entries == null) return result;
+        removeExpired(entries, System.currentTimeMillis());
+        for (Entry entry : entries) {
+            if (entry.sequence > afterSequence && entry.event.type.equals(type)) {
+                result.add(entry.event);
+            }
+        }
+        return result;
+    }
+
+    void clear(String channel) {
+        channels.remove(channel);
+    }
+
+    private void removeExpired(ArrayDeque<Entry> entries, long now) {
+        Iterator<Entry> iterator = entries.iterator();
+        while (iterator.hasNext() && now - iterator.next().timestamp > maxAgeMillis) {
+            iterator.remove();
+        }
+    }
+
+    private static class Entry {
+        private final long sequence;
+        private final long timestamp;
+        private final Event<?> event;
+
+        private Entry(long sequence, long timestamp, Event<?> event) {
+            this.sequence = sequence;
+            this.timestamp = timestamp;
+            this.event = event;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+//
+// PrivMX Endpoint Java Extra.
+// Copyright © 2025 Simplito sp. z o.o.
+//
+// This file is part of the PrivMX Platform (https://privmx.dev).
+// This software is Licensed under the MIT License.
+//
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+package com.simplito.java.privmx_endpoint_extra.lib;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Runs tasks on given {@link Executor}, keeping order of tasks with the same key.
+ * Tasks with different keys can run in parallel.
+ * When the executor rejects a task, queued tasks of its key run on the calling thread, so none of them is lost.
+ */
+class OrderedEventExecutor {
+    private static final int TASKS_PER_RUN = 64;
+
+    private final Executor executor;
+    private final Map<Object, Lane> lanes = new HashMap<>();
+
+    OrderedEventExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Schedules task after all previously scheduled tasks with the same key.
+     *
+     * @param key  ordering key
+     * @param task task to run
+     */
+    void execute(Object key, Runnable task) {
+        Lane lane;
+        synchronized (lanes) {
+            lane = lanes.computeIfAbsent(key, Lane::new);
+            lane.tasks.add(task);
+            if (lane.scheduled) return;
+            lane.scheduled = true;
+        }
+        schedule(lane);
+    }
+
+    private void schedule(Lane lane) {
+        try {
+            executor.execute(lane);
+        } catch (RejectedExecutionException e) {
+            // The lane stays scheduled, so tasks added meanwhile keep their order behind the drained ones
+            lane.runTasks(Integer.MAX_VALUE);
+        }
+    }
+
+    private class Lane implements Runnable {
+        private final Object key;
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+        private boolean scheduled;
+
+        private Lane(Object key) {
+            this.key = key;
+        }
+
+        @Override
+        public void run() {
+            if (runTasks(TASKS_PER_RUN)) {
+                // Let other lanes run before continuing with this one
+                schedule(this);
+            }
+        }
+
+        /**
+         * Runs up to {@code limit} tasks.
+         *
+         * @return {@code true} if the lane still has tasks and stays scheduled
+         */
+        private boolean runTasks(int limit) {
+            for (int i = 0; i < limit; i++) {
+                Runnable task;
+                synchronized (lanes) {
+                    task = tasks.poll();
+                    if (task == null) {
+                        scheduled = false;
+                        lanes.remove(key);
+                        return false;
+                    }
+                }
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    System.out.println("Catch event exception: " + e.getMessage());
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -21,7 +21,11 @@ import com.simplito.java.privmx_endpoint_extra.events.EventDispatcher;
 import com.simplito.java.privmx_endpoint_extra.events.EventType;
 import com.simplito.java.privmx_endpoint_extra.model.Modules;
 
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -31,14 +35,26 @@ import java.util.regex.Pattern;
  * @category core
  */
 public class PrivmxEndpoint extends BasicPrivmxEndpoint implements AutoCloseable {
+    private static final EventCallback<Object> NO_CALLBACK = (data) -> {
+    };
+    // Called under the dispatcher lock, so buffered events are cleared after it is released
     private final EventCallback<String> onRemoveChannel = (channel) -> {
+        if (this.replayBuffer != null) {
+            this.removedChannels.add(channel);
+        }
         try {
-            unsubscribeChannel(channel);
+            this.subscriptionManager.unsubscribe(channel);
         } catch (Exception e) {
             System.out.println("Cannot unsubscribe channel");
         }
     };
+    private final SubscriptionManager subscriptionManager = new SubscriptionManager(
+            this::subscribeChannel,
+            this::unsubscribeChannel
+    );
     private final EventDispatcher eventDispatcher = new EventDispatcher(onRemoveChannel);
+    private final Set<String> removedChannels = ConcurrentHashMap.newKeySet();
+    private volatile EventReplayBuffer replayBuffer;
 
     /**
      * Calls {@link BasicPrivmxEndpoint#BasicPrivmxEndpoint(Set, String, String, String, PKIVerificationOptions)}.
@@ -99,12 +115,134 @@ public class PrivmxEndpoint extends BasicPrivmxEndpoint implements AutoCloseable
      */
     public final <T> void registerCallback(Object context, EventType<T> eventType, EventCallback<T> callback) throws RuntimeException {
         if (eventDispatcher.register(eventType.channel, eventType.eventType, context, callback)) {
-            try {
-                subscribeChannel(eventType.channel);
-            } catch (Exception e) {
-                throw new RuntimeException("Cannot subscribe event channel for this event (detail message: " + e.getMessage() + ")");
+            subscribe(eventType);
+        }
+    }
+
+    /**
+     * Registers callbacks with the specified type and immediately calls it with buffered events
+     * of this type handled after {@code afterSequence}. Replayed events are delivered before any new event.
+     * Use it to register a callback after loading a snapshot of data, without loading it again:
+     * read {@link #getEventSequence()} before loading and pass it as {@code afterSequence}.
+     * Only events of channels subscribed at that time are buffered; if the channel may not be subscribed yet,
+     * use {@link #prepareEventReplay(Object, EventType)} instead of {@link #getEventSequence()}.
+     *
+     * @param context       an object that identifies callbacks in the list
+     * @param eventType     type of event to listen to
+     * @param callback      a block of code to execute when event was handled
+     * @param afterSequence sequence number of the last event that should not be replayed
+     * @param <T>           type of data passed to callback
+     * @throws IllegalStateException thrown when event replay is not enabled.
+     * @throws RuntimeException      thrown when method encounters an exception during subscribing on channel.
+     */
+    @SuppressWarnings("unchecked")
+    public final <T> void registerCallback(
+            Object context,
+            EventType<T> eventType,
+            EventCallback<T> callback,
+            long afterSequence
+    ) throws IllegalStateException, RuntimeException {
+        EventReplayBuffer buffer = requireReplayBuffer();
+        boolean needSubscribe;
+        synchronized (buffer) {
+            needSubscribe = eventDispatcher.register(eventType.channel, eventType.eventType, context, callback);
+            List<Event<?>> events = buffer.replay(eventType.channel, eventType.eventType, afterSequence);
+            for (Event<?> event : events) {
+                try {
+                    callback.call((T) event.data);
+                } catch (Exception ignored) {
+                }
             }
         }
+        if (needSubscribe) {
+            subscribe(eventType);
+        }
+    }
+
+    /**
+     * Subscribes the channel of given event type, so its events are buffered, and returns the current sequence number.
+     * Call it before loading a snapshot of data and pass the result to
+     * {@link #registerCallback(Object, EventType, EventCallback, long)} with the same {@code context}.
+     * The channel stays subscribed until callbacks of this {@code context} are unregistered.
+     *
+     * @param context   an object that identifies callbacks in the list
+     * @param eventType type of event to prepare replay for
+     * @return sequence number of the last handled event
+     * @throws IllegalStateException thrown when event replay is not enabled.
+     * @throws RuntimeException      thrown when method encounters an exception during subscribing on channel.
+     */
+    public final long prepareEventReplay(Object context, EventType<?> eventType) throws IllegalStateException, RuntimeException {
+        EventReplayBuffer buffer = requireReplayBuffer();
+        if (eventDispatcher.register(eventType.channel, eventType.eventType, context, NO_CALLBACK)) {
+            subscribe(eventType);
+        }
+        synchronized (buffer) {
+            return buffer.getSequence();
+        }
+    }
+
+    /**
+     * Sets time for which channels stay subscribed after their last callback is unregistered.
+     * Registering a callback for such channel within this time does not send any subscription requests.
+     * Channels whose time has passed are unsubscribed together in the background.
+     *
+     * @param gracePeriodMillis grace period in milliseconds, {@code 0} (default) unsubscribes immediately
+     * @throws IllegalArgumentException thrown when {@code gracePeriodMillis} is negative.
+     */
+    public void setUnsubscribeGracePeriod(long gracePeriodMillis) throws IllegalArgumentException {
+        if (gracePeriodMillis < 0) {
+            throw new IllegalArgumentException("Grace period cannot be negative");
+        }
+        subscriptionManager.setGracePeriod(gracePeriodMillis);
+    }
+
+    /**
+     * Enables buffering of handled events for replay with {@link #registerCallback(Object, EventType, EventCallback, long)}.
+     *
+     * @param maxEventsPerChannel maximum number of buffered events of each channel
+     * @param maxAgeMillis        maximum age of buffered events in milliseconds
+     * @throws IllegalArgumentException thrown when any limit is not greater than 0.
+     */
+    public void enableEventReplay(int maxEventsPerChannel, long maxAgeMillis) throws IllegalArgumentException {
+        if (maxEventsPerChannel <= 0 || maxAgeMillis <= 0) {
+            throw new IllegalArgumentException("Replay limits must be greater than 0");
+        }
+        replayBuffer = new EventReplayBuffer(maxEventsPerChannel, maxAgeMillis);
+    }
+
+    /**
+     * Disables event replay and removes buffered events.
+     */
+    public void disableEventReplay() {
+        replayBuffer = null;
+    }
+
+    /**
+     * Returns sequence number of the last handled event.
+     *
+     * @return sequence number of the last handled event, {@code 0} if there was none
+     * @throws IllegalStateException thrown when event replay is not enabled.
+     */
+    public long getEventSequence() throws IllegalStateException {
+        EventReplayBuffer buffer = requireReplayBuffer();
+        synchronized (buffer) {
+            return buffer.getSequence();
+        }
+    }
+
+    /**
+     * Returns sequence number of the last buffered event handled not later than given time.
+     * If there is no such event, returns sequence preceding all buffered events.
+     *
+     * @param timestampMillis time in milliseconds since epoch
+     * @return sequence number to pass to {@link #registerCallback(Object, EventType, EventCallback, long)}
+     * @throws IllegalStateException thrown when event replay is not enabled.
+     */
+    public long getEventSequence(long timestampMillis) throws IllegalStateException {
+        EventReplayBuffer buffer = requireReplayBuffer();
+        synchronized (buffer) {
+            return buffer.getSequence(timestampMillis);
+        }
     }
 
     /**
@@ -114,6 +252,7 @@ public class PrivmxEndpoint extends BasicPrivmxEndpoint implements AutoCloseable
      */
     public void unregisterCallbacks(Object context) {
         eventDispatcher.unbind(context);
+        clearRemovedChannels();
     }
 
     /**
@@ -121,6 +260,7 @@ public class PrivmxEndpoint extends BasicPrivmxEndpoint implements AutoCloseable
      */
     public void unregisterAll() {
         eventDispatcher.unbindAll();
+        clearRemovedChannels();
     }
 
     /**
@@ -129,7 +269,60 @@ public class PrivmxEndpoint extends BasicPrivmxEndpoint implements AutoCloseable
      * @param event event to handle
      */
     public void handleEvent(Event<?> event) {
-        eventDispatcher.emit(event);
+        EventReplayBuffer buffer = replayBuffer;
+        if (buffer == null) {
+            eventDispatcher.emit(event);
+            return;
+        }
+        synchronized (buffer) {
+            buffer.record(event);
+            eventDispatcher.emit(event);
+        }
+    }
+
+    private void clearRemovedChannels() {
+        EventReplayBuffer buffer = replayBuffer;
+        if (buffer == null) {
+            removedChannels.clear();
+            return;
+        }
+        synchronized (buffer) {
+            for (Iterator<String> iterator = removedChannels.iterator(); iterator.hasNext(); ) {
+                buffer.clear(iterator.next());
+                iterator.remove();
+            }
+        }
+    }
+
+    private EventReplayBuffer requireReplayBuffer() throws IllegalStateException {
+        EventReplayBuffer buffer = replayBuffer;
+        if (buffer == null) {
+            throw new IllegalStateException("Event replay is not enabled");
+        }
+        return buffer;
+    }
+
+    /**
+     * Unsubscribes channels waiting for the end of the grace period and closes the connection.
+     *
+     * @throws Exception when instance is currently closed
+     */
+    @Override
+    public void close() throws Exception {
+        try {
+            subscriptionManager.flush();
+        } finally {
+            subscriptionManager.close();
+        }
+        super.close();
+    }
+
+    private void subscribe(EventType<?> eventType) throws RuntimeException {
+        try {
+            subscriptionManager.subscribe(eventType.channel);
+        } catch (Exception e) {
+            throw new RuntimeException("Cannot subscribe event channel for this event (detail message: " + e.getMessage() + ")");
+        }
     }
 
     private void subscribeChannel(String channelStr) {
@@ -189,6 +382,7 @@ public class PrivmxEndpoint extends BasicPrivmxEndpoint implements AutoCloseable
 
     private void unsubscribeChannel(String channelStr) {
         Channel channel = Channel.fromString(channelStr);
+        Channel.forget(channelStr);
         if (channel == null) {
             System.out.println("Cannot unsubscribe on events channel (pattern not found)");
             return;
@@ -243,6 +437,10 @@ public class PrivmxEndpoint extends BasicPrivmxEndpoint implements AutoCloseable
     }
 
     private static class Channel {
+        private static final Pattern CHANNEL_PATTERN = Pattern
+                .compile("(?<module>(?:(?!/).)*)(/(?<instanceId>(?:(?!/).)*)/(?<type>(?:(?!/).)*))?");
+        private static final Map<String, Channel> parsedChannels = new ConcurrentHashMap<>();
+
         private final String module;
         private final String instanceId;
         private final String type;
@@ -258,9 +456,23 @@ public class PrivmxEndpoint extends BasicPrivmxEndpoint implements AutoCloseable
         }
 
         private static Channel fromString(String channel) {
-            Matcher matcher = Pattern
-                    .compile("(?<module>(?:(?!/).)*)(/(?<instanceId>(?:(?!/).)*)/(?<type>(?:(?!/).)*))?")
-                    .matcher(channel);
+            Channel cached = parsedChannels.get(channel);
+            if (cached != null) {
+                return cached;
+            }
+            Channel parsed = parse(channel);
+            if (parsed != null) {
+                parsedChannels.put(channel, parsed);
+            }
+            return parsed;
+        }
+
+        private static void forget(String channel) {
+            parsedChannels.remove(channel);
+        }
+
+        private static Channel parse(String channel) {
+            Matcher matcher = CHANNEL_PATTERN.matcher(channel);
             if (!matcher.find()) {
                 return null;
             }
@@ -18,15 +18,22 @@ import com.simplito.java.privmx_endpoint.model.exceptions.PrivmxException;
 import com.simplito.java.privmx_endpoint.modules.core.Connection;
 import com.simplito.java.privmx_endpoint.modules.core.EventQueue;
 import com.simplito.java.privmx_endpoint.modules.crypto.CryptoApi;
+import com.simplito.java.privmx_endpoint_extra.events.BoundedEventBuffer;
+import com.simplito.java.privmx_endpoint_extra.events.EventQueuePublisher;
 import com.simplito.java.privmx_endpoint_extra.events.EventType;
+import com.simplito.java.privmx_endpoint_extra.events.StatsEventCoalescer;
 import com.simplito.java.privmx_endpoint_extra.model.Modules;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 /**
@@ -38,6 +45,8 @@ import java.util.concurrent.Future;
  */
 public class PrivmxEndpointContainer implements AutoCloseable {
     private static final String TAG = "[PrivmxEndpointContainer]";
+    private static final int EVENT_BATCH_SIZE = 256;
+    private static final long EVENT_WAIT_TIMEOUT_MILLIS = 1000;
     private final Map<Long, PrivmxEndpoint> privmxEndpoints = new HashMap<>();
     @Deprecated
     private boolean isInitialized = false;
@@ -48,6 +57,11 @@ public class PrivmxEndpointContainer implements AutoCloseable {
     //Event loop
     private final ExecutorService eventExecutor = Executors.newSingleThreadExecutor();
     private Future<?> currentTask;
+    private volatile OrderedEventExecutor callbackExecutor;
+    private volatile BoundedEventBuffer eventBuffer;
+    private ExecutorService bufferExecutor;
+    private ExecutorService shardExecutor;
+    private volatile StatsEventCoalescer statsCoalescer;
 
     /**
      * Creates instance of {@code PrivmxEndpointContainer}.
@@ -66,7 +80,7 @@ public class PrivmxEndpointContainer implements AutoCloseable {
         return isInitialized;
     }
 
-    private boolean eventLoopStarted = false;
+    private volatile boolean eventLoopStarted = false;
 
     /**
      * Stops event loop.
@@ -204,6 +218,100 @@ public class PrivmxEndpointContainer implements AutoCloseable {
         }
     }
 
+    /**
+     * Sets executor used to run event callbacks.
+     * Events of the same connection are handled in the order they were received,
+     * while events of different connections can be handled in parallel.
+     * By default, callbacks are called on the event loop thread.
+     * It should be set before {@link #startListening()}.
+     *
+     * @param executor executor running event callbacks, {@code null} to call them on the event loop thread
+     * @throws IllegalStateException when {@code executor} is {@code null} while stats coalescing is enabled
+     */
+    public void setCallbackExecutor(Executor executor) throws IllegalStateException {
+        synchronized (this) {
+            if (executor == null && statsCoalescer != null) {
+                throw new IllegalStateException("Stats coalescing requires a callback executor");
+            }
+            callbackExecutor = executor == null ? null : new OrderedEventExecutor(executor);
+        }
+    }
+
+    /**
+     * Sets buffer placed between the event loop and event callbacks.
+     * Events read by the event loop are added to the buffer according to its overflow policy
+     * and callbacks are called from a separate thread reading the buffer.
+     * Library events (e.g. {@link EventType#DisconnectedEvent}) bypass the buffer, so they are never dropped.
+     * Replaced buffer is closed and its events are moved to the new buffer.
+     * Closing the buffer while it is set removes it, as setting {@code null} does.
+     * It should be set before {@link #startListening()}.
+     *
+     * @param buffer buffer for received events, {@code null} to call callbacks directly from the event loop
+     */
+    public void setEventBuffer(BoundedEventBuffer buffer) {
+        BoundedEventBuffer previous;
+        synchronized (this) {
+            previous = eventBuffer;
+            eventBuffer = buffer;
+            if (buffer != null && bufferExecutor == null && !eventExecutor.isShutdown()) {
+                ExecutorService executor = Executors.newSingleThreadExecutor();
+                bufferExecutor = executor;
+                executor.submit(() -> processBufferedEvents(executor));
+            }
+        }
+        if (previous == null || previous == buffer) return;
+        previous.close();
+        for (Event<?> event : previous.drain()) {
+            try {
+                handleReceivedEvent(event);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Enables coalescing of thread and store stats events.
+     * Stats events of the same thread or store received within the window are collapsed,
+     * and only the latest of them is passed to callbacks when the window ends.
+     * Coalesced events are passed to the callback executor in the order of the connection's other events,
+     * so it requires {@link #setCallbackExecutor(Executor)} to be set first.
+     *
+     * @param windowMillis time window in milliseconds, {@code 0} disables coalescing
+     * @throws IllegalArgumentException when {@code windowMillis} is negative
+     * @throws IllegalStateException    when coalescing is enabled without a callback executor
+     */
+    public void setStatsCoalescingWindow(long windowMillis) throws IllegalArgumentException, IllegalStateException {
+        if (windowMillis < 0) {
+            throw new IllegalArgumentException("Window cannot be negative");
+        }
+        StatsEventCoalescer previous;
+        synchronized (this) {
+            if (windowMillis > 0 && callbackExecutor == null) {
+                throw new IllegalStateException("Stats coalescing requires a callback executor");
+            }
+            previous = statsCoalescer;
+            statsCoalescer = windowMillis == 0 ? null : new StatsEventCoalescer(windowMillis, this::dispatchEvent);
+        }
+        if (previous != null) previous.close();
+    }
+
+    /**
+     * Creates publisher delivering events according to demand of its subscriber,
+     * as an alternative to callbacks called by the event loop.
+     * Events delivered by the publisher are not passed to connections' callbacks.
+     *
+     * @return new publisher of events
+     * @throws IllegalStateException when the event loop is started
+     */
+    public EventQueuePublisher createEventPublisher() throws IllegalStateException {
+        if (eventLoopStarted) {
+            throw new IllegalStateException("Cannot create event publisher while event loop is started");
+        }
+        return new EventQueuePublisher();
+    }
+
     /**
      * Starts event handling Thread.
      */
@@ -212,52 +320,202 @@ public class PrivmxEndpointContainer implements AutoCloseable {
         if (currentTask == null) waitForNextEvent();
     }
 
+    /**
+     * Starts event handling with given number of threads.
+     * Events are split between threads by connection ID using {@link EventQueue#setShardCount(int)},
+     * so events of each connection are handled in order, while different connections are handled in parallel.
+     *
+     * @param threadCount number of event handling threads
+     * @throws IllegalArgumentException when {@code threadCount} is not greater than 0
+     */
+    public void startListening(int threadCount) throws IllegalArgumentException {
+        if (threadCount <= 0) {
+            throw new IllegalArgumentException("Thread count must be greater than 0");
+        }
+        synchronized (this) {
+            if (currentTask != null || shardExecutor != null) return;
+            EventQueue.setShardCount(threadCount);
+            if (threadCount == 1) {
+                startListening();
+                return;
+            }
+            eventLoopStarted = true;
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+            AtomicInteger runningShards = new AtomicInteger(threadCount);
+            shardExecutor = executor;
+            for (int shard = 0; shard < threadCount; shard++) {
+                int currentShard = shard;
+                executor.submit(() -> {
+                    processShardEvents(currentShard);
+                    if (runningShards.decrementAndGet() == 0) {
+                        synchronized (this) {
+                            if (shardExecutor == executor) shardExecutor = null;
+                        }
+                        executor.shutdown();
+                    }
+                });
+            }
+        }
+    }
+
     private void waitForNextEvent() {
         synchronized (this) {
             if (currentTask == null && eventLoopStarted && !eventExecutor.isShutdown()) {
-                currentTask = eventExecutor.submit(() -> {
-                    try {
-                        Event<?> result = EventQueue.waitEvent();
-                        currentTask = null;
-                        onNewEvent(result);
-                    } catch (IllegalStateException e) {
-                        currentTask = null;
-                    } catch (Exception e) {
-                        System.out.println("Catch event exception: " + e.getMessage());
-                        currentTask = null;
-                        waitForNextEvent();
+                currentTask = eventExecutor.submit(this::processEvents);
+            }
+        }
+    }
+
+    private void processEvents() {
+        try {
+            while (eventLoopStarted) {
+                List<Event<?>> events = EventQueue.drainEvents(EVENT_BATCH_SIZE, EVENT_WAIT_TIMEOUT_MILLIS);
+                for (Event<?> event : events) {
+                    // Events that could not be converted are skipped
+                    if (event == null) continue;
+                    if (event.type.equals(EventType.LibBreakEvent.eventType)) {
+                        eventLoopStarted = false;
                     }
-                });
+                    handleReceivedEvent(event);
+                }
+            }
+        } catch (IllegalStateException e) {
+            synchronized (this) {
+                currentTask = null;
+            }
+            return;
+        } catch (Exception e) {
+            System.out.println("Catch event exception: " + e.getMessage());
+        }
+        synchronized (this) {
+            currentTask = null;
+        }
+        waitForNextEvent();
+    }
+
+    private void processShardEvents(int shard) {
+        boolean stopped = false;
+        while (!stopped) {
+            try {
+                List<Event<?>> events = EventQueue.drainShardEvents(shard, EVENT_BATCH_SIZE, EVENT_WAIT_TIMEOUT_MILLIS);
+                for (Event<?> event : events) {
+                    // Events that could not be converted are skipped
+                    if (event == null) continue;
+                    if (event.type.equals(EventType.LibBreakEvent.eventType)) {
+                        eventLoopStarted = false;
+                        stopped = true;
+                    }
+                    handleReceivedEvent(event);
+                }
+            } catch (IllegalStateException | IllegalArgumentException e) {
+                // The library is closed or the shard count was decreased, so this shard is no longer drained
+                return;
+            } catch (InterruptedException e) {
+                return;
+            } catch (Exception e) {
+                System.out.println("Catch event exception: " + e.getMessage());
+            }
+        }
+    }
+
+    private void handleReceivedEvent(Event<?> event) throws InterruptedException {
+        // Library events control connections' lifecycle, so overflow policies cannot drop them
+        if (!event.type.startsWith("lib")) {
+            BoundedEventBuffer buffer;
+            while ((buffer = eventBuffer) != null) {
+                if (buffer.offer(event) || !buffer.isClosed()) return;
+                // Closed buffer was replaced or closed by the caller, so the event goes to the current one
+                removeClosedBuffer(buffer);
+            }
+        }
+        try {
+            onNewEvent(event);
+        } catch (Exception e) {
+            System.out.println("Catch event exception: " + e.getMessage());
+        }
+    }
+
+    private void processBufferedEvents(ExecutorService executor) {
+        while (!executor.isShutdown()) {
+            BoundedEventBuffer buffer = eventBuffer;
+            if (buffer == null) {
+                synchronized (this) {
+                    if (eventBuffer == null) {
+                        if (bufferExecutor == executor) bufferExecutor = null;
+                        executor.shutdown();
+                        return;
+                    }
+                }
+                continue;
+            }
+            try {
+                Event<?> event = buffer.poll(EVENT_WAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (event != null) {
+                    onNewEvent(event);
+                } else if (buffer.isClosed()) {
+                    removeClosedBuffer(buffer);
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (Exception e) {
+                System.out.println("Catch event exception: " + e.getMessage());
+            }
+        }
+    }
+
+    private void removeClosedBuffer(BoundedEventBuffer buffer) {
+        synchronized (this) {
+            if (eventBuffer != buffer) return;
+            eventBuffer = null;
+        }
+        for (Event<?> event : buffer.drain()) {
+            try {
+                onNewEvent(event);
+            } catch (Exception e) {
+                System.out.println("Catch event exception: " + e.getMessage());
             }
         }
     }
 
     private void onNewEvent(Event<?> event) {
         if (event.type.equals("libPlatformDisconnected")) {
-            waitForNextEvent();
             return;
         }
+        StatsEventCoalescer coalescer = statsCoalescer;
+        if (coalescer != null && coalescer.offer(event)) {
+            return;
+        }
+        dispatchEvent(event);
+    }
+
+    private void dispatchEvent(Event<?> event) {
         if (event.connectionId != null && event.connectionId != -1) {
-            synchronized (privmxEndpoints) {
-                PrivmxEndpoint endpoint = privmxEndpoints.get(event.connectionId);
-                if (endpoint != null) {
-                    endpoint.handleEvent(event);
-                    if (event.type.equals(EventType.DisconnectedEvent.eventType)) {
-                        try {
-                            PrivmxEndpoint closedConnection = privmxEndpoints.remove(event.connectionId);
-                            closedConnection.close();
-                        } catch (Exception ignore) {
-                        }
-                    }
-                }
+            OrderedEventExecutor executor = callbackExecutor;
+            if (executor == null) {
+                // Only the endpoint lookup is synchronized, so shard threads run callbacks in parallel
+                handleEndpointEvent(event);
+            } else {
+                executor.execute(event.connectionId, () -> handleEndpointEvent(event));
             }
         }
+    }
 
-        if (event.type.equals(EventType.LibBreakEvent.eventType)) {
-            eventLoopStarted = false;
-            return;
+    private void handleEndpointEvent(Event<?> event) {
+        PrivmxEndpoint endpoint;
+        synchronized (privmxEndpoints) {
+            endpoint = privmxEndpoints.get(event.connectionId);
+        }
+        if (endpoint == null) return;
+        endpoint.handleEvent(event);
+        if (event.type.equals(EventType.DisconnectedEvent.eventType)) {
+            try {
+                synchronized (privmxEndpoints) {
+                    privmxEndpoints.remove(event.connectionId, endpoint);
+                }
+                endpoint.close();
+            } catch (Exception ignore) {
+            }
         }
-        waitForNextEvent();
     }
 
     /**
@@ -277,6 +535,16 @@ public class PrivmxEndpointContainer implements AutoCloseable {
             privmxEndpoints.clear();
         }
         eventExecutor.shutdown();
+        synchronized (this) {
+            // Wakes up the event loop blocked on a full buffer, later events skip the buffer
+            BoundedEventBuffer buffer = eventBuffer;
+            eventBuffer = null;
+            if (buffer != null) buffer.close();
+            if (bufferExecutor != null) bufferExecutor.shutdownNow();
+            if (shardExecutor != null) shardExecutor.shutdown();
+            if (statsCoalescer != null) statsCoalescer.close();
+            statsCoalescer = null;
+        }
     }
 
 }
@@ -0,0 +1,131 @@
+//
+// PrivMX Endpoint Java Extra.
+// Copyright © 2025 Simplito sp. z o.o.
+//
+// This file is part of the PrivMX Platform (https://privmx.dev).
+// This software is Licensed under the MIT License.
+//
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+package com.simplito.java.privmx_endpoint_extra.lib;
+
+import com.simplito.java.privmx_endpoint_extra.events.EventCallback;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delays unsubscribing channels by a grace period, so a channel subscribed again
+ * within the period does not cause any unsubscribe and subscribe requests.
+ * Unsubscriptions due at the same time are sent together by a single background task.
+ */
+class SubscriptionManager implements AutoCloseable {
+    private final EventCallback<String> subscriber;
+    private final EventCallback<String> unsubscriber;
+    private final Map<String, Long> pendingUnsubscriptions = new HashMap<>();
+    private ScheduledExecutorService scheduler;
+    private long gracePeriodMillis = 0;
+    private boolean flushScheduled = false;
+
+    SubscriptionManager(EventCallback<String> subscriber, EventCallback<String> unsubscriber) {
+        this.subscriber = subscriber;
+        this.unsubscriber = unsubscriber;
+    }
+
+    /**
+     * Sets grace period. Setting {@code 0} unsubscribes all pending channels immediately.
+     */
+    synchronized void setGracePeriod(long gracePeriodMillis) {
+        this.gracePeriodMillis = gracePeriodMillis;
+        if (gracePeriodMillis == 0) {
+            flush();
+        }
+    }
+
+    /**
+     * Subscribes channel, unless its unsubscription is still pending.
+     */
+    synchronized void subscribe(String channel) {
+        if (pendingUnsubscriptions.remove(channel) != null) return;
+        subscriber.call(channel);
+    }
+
+    /**
+     * Unsubscribes channel after the grace period.
+     */
+    synchronized void unsubscribe(String channel) {
+        if (gracePeriodMillis == 0) {
+            unsubscriber.call(channel);
+            return;
+        }
+        pendingUnsubscriptions.put(channel, System.currentTimeMillis() + gracePeriodMillis);
+        if (!flushScheduled) {
+            schedule(gracePeriodMillis);
+        }
+    }
+
+    /**
+     * Immediately unsubscribes all pending channels.
+     */
+    synchronized void flush() {
+        List<String> channels = new ArrayList<>(pendingUnsubscriptions.keySet());
+        pendingUnsubscriptions.clear();
+        channels.forEach(this::callUnsubscriber);
+    }
+
+    @Override
+    public synchronized void close() {
+        pendingUnsubscriptions.clear();
+        if (scheduler != null) scheduler.shutdownNow();
+        scheduler = null;
+    }
+
+    private void schedule(long delayMillis) {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "SubscriptionManager");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        flushScheduled = true;
+        scheduler.schedule(this::flushDue, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void flushDue() {
+        flushScheduled = false;
+        long now = System.currentTimeMillis();
+        long nextDeadline = Long.MAX_VALUE;
+        List<String> due = new ArrayList<>();
+        Iterator<Map.Entry<String, Long>> iterator = pendingUnsubscriptions.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Long> entry = iterator.next();
+            if (entry.getValue() <= now) {
+                due.add(entry.getKey());
+                iterator.remove();
+            } else {
+                nextDeadline = Math.min(nextDeadline, entry.getValue());
+            }
+        }
+        due.forEach(this::callUnsubscriber);
+        if (nextDeadline != Long.MAX_VALUE && scheduler != null) {
+            schedule(nextDeadline - now);
+        }
+    }
+
+    private void callUnsubscriber(String channel) {
+        try {
+            unsubscriber.call(channel);
+        } catch (Exception e) {
+            System.out.println("Cannot unsubscribe channel");
+        }
+    }
+}
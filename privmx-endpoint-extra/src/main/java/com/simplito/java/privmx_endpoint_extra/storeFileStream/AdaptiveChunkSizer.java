@@ -0,0 +1,135 @@
+//
+// PrivMX Endpoint Java Extra.
+// Copyright © 2024 Simplito sp. z o.o.
+//
+// This file is part of the PrivMX Platform (https://privmx.dev).
+// This software is Licensed under the MIT License.
+//
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+
+package com.simplito.java.privmx_endpoint_extra.storeFileStream;
+
+/**
+ * Chooses size of read/written file chunks based on measured throughput.
+ * The size is adjusted so a single chunk takes about the target time: on fast networks chunks grow,
+ * reducing the number of round trips; on slow networks they shrink, keeping progress updates frequent
+ * and memory usage low. The size changes at most twice per chunk and stays within given bounds.
+ * <p>
+ * Set it with {@link StoreFileStream.Controller#setChunkSizer(AdaptiveChunkSizer)} to use it in the stream helper methods.
+ * An instance can be shared by consecutive transfers, so they start with the size learned by the previous ones.
+ *
+ * @category store
+ */
+public class AdaptiveChunkSizer {
+    /**
+     * Default minimum chunk size.
+     */
+    public static final long DEFAULT_MIN_CHUNK_SIZE = 32 * 1024L;
+
+    /**
+     * Default maximum chunk size.
+     */
+    public static final long DEFAULT_MAX_CHUNK_SIZE = 8 * 1024 * 1024L;
+
+    /**
+     * Default time of processing a single chunk in milliseconds.
+     */
+    public static final long DEFAULT_TARGET_CHUNK_MILLIS = 200;
+
+    private static final double SMOOTHING = 0.3;
+
+    private final long minChunkSize;
+    private final long maxChunkSize;
+    private final long targetChunkNanos;
+    private long chunkSize;
+    private double bytesPerNano = -1;
+
+    /**
+     * Creates instance of {@code AdaptiveChunkSizer} with default bounds and target time.
+     */
+    public AdaptiveChunkSizer() {
+        this(DEFAULT_MIN_CHUNK_SIZE, DEFAULT_MAX_CHUNK_SIZE, DEFAULT_TARGET_CHUNK_MILLIS);
+    }
+
+    /**
+     * Creates instance of {@code AdaptiveChunkSizer}. The first chunk has size {@link StoreFileStream#OPTIMAL_SEND_SIZE}
+     * limited to given bounds.
+     *
+     * @param minChunkSize      minimum chunk size, chunk sizes are its multiples
+     * @param maxChunkSize      maximum chunk size
+     * @param targetChunkMillis time of processing a single chunk in milliseconds
+     * @throws IllegalArgumentException when bounds are not positive, {@code minChunkSize} is greater than {@code maxChunkSize},
+     *                                  {@code maxChunkSize} exceeds {@link Integer#MAX_VALUE}
+     *                                  or {@code targetChunkMillis} is not greater than 0
+     */
+    public AdaptiveChunkSizer(long minChunkSize, long maxChunkSize, long targetChunkMillis) throws IllegalArgumentException {
+        if (minChunkSize <= 0 || minChunkSize > maxChunkSize || maxChunkSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Chunk size bounds must satisfy 0 < min <= max <= Integer.MAX_VALUE");
+        }
+        if (targetChunkMillis <= 0) {
+            throw new IllegalArgumentException("Target chunk time must be greater than 0");
+        }
+        this.minChunkSize = minChunkSize;
+        this.maxChunkSize = maxChunkSize;
+        this.targetChunkNanos = targetChunkMillis * 1_000_000L;
+        this.chunkSize = align(StoreFileStream.OPTIMAL_SEND_SIZE);
+    }
+
+    /**
+     * Returns size of the next chunk.
+     *
+     * @return chunk size in bytes
+     */
+    public synchronized long getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Returns minimum chunk size.
+     *
+     * @return minimum chunk size in bytes
+     */
+    public long getMinChunkSize() {
+        return minChunkSize;
+    }
+
+    /**
+     * Returns maximum chunk size.
+     *
+     * @return maximum chunk size in bytes
+     */
+    public long getMaxChunkSize() {
+        return maxChunkSize;
+    }
+
+    /**
+     * Returns smoothed measured throughput.
+     *
+     * @return throughput in bytes per second, or {@code -1} if nothing was measured yet
+     */
+    public synchronized double getThroughput() {
+        return bytesPerNano < 0 ? -1 : bytesPerNano * 1_000_000_000L;
+    }
+
+    /**
+     * Records processed chunk and adjusts the size of the next chunk.
+     *
+     * @param bytes        number of processed bytes
+     * @param elapsedNanos time of processing the chunk in nanoseconds
+     */
+    public synchronized void record(long bytes, long elapsedNanos) {
+        if (bytes <= 0 || elapsedNanos <= 0) return;
+        double sample = (double) bytes / elapsedNanos;
+        bytesPerNano = bytesPerNano < 0 ? sample : bytesPerNano + SMOOTHING * (sample - bytesPerNano);
+        double desired = bytesPerNano * targetChunkNanos;
+        chunkSize = align((long) Math.max(chunkSize / 2.0, Math.min(chunkSize * 2.0, desired)));
+    }
+
+    private long align(long size) {
+        long bounded = Math.max(minChunkSize, Math.min(maxChunkSize, size));
+        return Math.max(minChunkSize, bounded / minChunkSize * minChunkSize);
+    }
+}
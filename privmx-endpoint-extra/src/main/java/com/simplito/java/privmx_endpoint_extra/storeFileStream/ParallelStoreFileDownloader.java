@@ -0,0 +1,218 @@
+//
+// PrivMX Endpoint Java Extra.
+// Copyright © 2024 Simplito sp. z o.o.
+//
+// This file is part of the PrivMX Platform (https://privmx.dev).
+// This software is Licensed under the MIT License.
+//
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+
+package com.simplito.java.privmx_endpoint_extra.storeFileStream;
+
+import com.simplito.java.privmx_endpoint.model.exceptions.NativeException;
+import com.simplito.java.privmx_endpoint.model.exceptions.PrivmxException;
+import com.simplito.java.privmx_endpoint.modules.store.StoreApi;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Downloads a Store file using many file handles at the same time.
+ * The file is split into disjoint ranges aligned to {@link StoreFileStream#OPTIMAL_SEND_SIZE};
+ * each range is read by its own handle and written to the target {@link FileChannel} with positional writes,
+ * so the download is not limited by the latency of consecutive requests of a single handle.
+ *
+ * @category store
+ */
+public class ParallelStoreFileDownloader {
+    private static final long CHUNK_SIZE = StoreFileStream.OPTIMAL_SEND_SIZE;
+
+    private ParallelStoreFileDownloader() {
+    }
+
+    /**
+     * Downloads Store file into {@link FileChannel}.
+     *
+     * @param api         reference to Store API
+     * @param fileId      ID of the file to download
+     * @param target      channel to write downloaded data, written from position {@code 0}
+     * @param parallelism number of file handles reading the file at the same time
+     * @return ID of the downloaded file
+     * @throws IOException              if there is an error while writing the channel or the file ends before its size
+     * @throws IllegalArgumentException when {@code parallelism} is not greater than 0
+     * @throws IllegalStateException    when {@code storeApi} is not initialized or there's no connection
+     * @throws PrivmxException          if there is an error while reading Store file
+     * @throws NativeException          if there is an unknown error while reading Store file
+     */
+    public static String download(
+            StoreApi api,
+            String fileId,
+            FileChannel target,
+            int parallelism
+    ) throws IOException, IllegalArgumentException, IllegalStateException, PrivmxException, NativeException {
+        return download(api, fileId, target, parallelism, null);
+    }
+
+    /**
+     * Downloads Store file into {@link FileChannel}.
+     * Progress of all ranges is reported to {@code streamController} as the total number of downloaded bytes.
+     * Stopping the controller stops all ranges after their current chunk and throws {@link IOException}.
+     * The channel is preallocated to the size of the Store file and truncated to it after all ranges are downloaded.
+     *
+     * @param api              reference to Store API
+     * @param fileId           ID of the file to download
+     * @param target           channel to write downloaded data, written from position {@code 0}
+     * @param parallelism      number of file handles reading the file at the same time
+     * @param streamController controls the process of downloading file
+     * @return ID of the downloaded file
+     * @throws IOException              if there is an error while writing the channel, the file ends before its size or the download was stopped
+     * @throws IllegalArgumentException when {@code parallelism} is not greater than 0
+     * @throws IllegalStateException    when {@code storeApi} is not initialized or there's no connection
+     * @throws PrivmxException          if there is an error while reading Store file
+     * @throws NativeException          if there is an unknown error while reading Store file
+     */
+    public static String download(
+            StoreApi api,
+            String fileId,
+            FileChannel target,
+            int parallelism,
+            StoreFileStream.Controller streamController
+    ) throws IOException, IllegalArgumentException, IllegalStateException, PrivmxException, NativeException {
+        if (api == null) throw new NullPointerException("api could not be null");
+        if (parallelism <= 0) throw new IllegalArgumentException("Parallelism must be greater than 0");
+        long size = api.getFile(fileId).size;
+        if (size > 0 && target.size() < size) {
+            target.write(ByteBuffer.allocate(1), size - 1);
+        }
+        long chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        int rangeCount = (int) Math.max(1, Math.min(parallelism, chunks));
+        long chunksPerRange = (chunks + rangeCount - 1) / rangeCount;
+
+        Download download = new Download(api, fileId, target, streamController);
+        ExecutorService executor = Executors.newFixedThreadPool(rangeCount, runnable -> {
+            Thread thread = new Thread(runnable, "ParallelStoreFileDownloader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<Future<Void>> ranges = new ArrayList<>();
+        try {
+            for (int i = 0; i < rangeCount; i++) {
+                long start = Math.min(size, i * chunksPerRange * CHUNK_SIZE);
+                long end = Math.min(size, start + chunksPerRange * CHUNK_SIZE);
+                ranges.add(executor.submit(() -> {
+                    download.readRange(start, end);
+                    return null;
+                }));
+            }
+            Throwable failure = null;
+            for (Future<Void> range : ranges) {
+                try {
+                    range.get();
+                } catch (ExecutionException e) {
+                    if (failure == null) failure = e.getCause();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    download.failed.set(true);
+                    if (failure == null) failure = new IOException("Interrupted while downloading file", e);
+                }
+            }
+            if (failure != null) rethrow(failure);
+        } finally {
+            executor.shutdownNow();
+        }
+        if (streamController != null && streamController.isStopped()) {
+            throw new IOException("Download was stopped");
+        }
+        if (target.size() > size) {
+            target.truncate(size);
+        }
+        return fileId;
+    }
+
+    private static void rethrow(Throwable failure) throws IOException, PrivmxException, NativeException {
+        if (failure instanceof IOException) throw (IOException) failure;
+        if (failure instanceof PrivmxException) throw (PrivmxException) failure;
+        if (failure instanceof NativeException) throw (NativeException) failure;
+        if (failure instanceof RuntimeException) throw (RuntimeException) failure;
+        if (failure instanceof Error) throw (Error) failure;
+        throw new IOException("Cannot download file: " + failure.getMessage(), failure);
+    }
+
+    private static class Download {
+        private final StoreApi api;
+        private final String fileId;
+        private final FileChannel target;
+        private final StoreFileStream.Controller streamController;
+        private final AtomicLong processedBytes = new AtomicLong();
+        private final AtomicBoolean failed = new AtomicBoolean(false);
+
+        private Download(StoreApi api, String fileId, FileChannel target, StoreFileStream.Controller streamController) {
+            this.api = api;
+            this.fileId = fileId;
+            this.target = target;
+            this.streamController = streamController;
+        }
+
+        private void readRange(long start, long end) throws IOException, PrivmxException, NativeException {
+            if (start >= end) return;
+            long handle = api.openFile(fileId);
+            Exception failure = null;
+            try {
+                if (start > 0) api.seekInFile(handle, start);
+                ByteBuffer buffer = ByteBuffer.allocateDirect((int) CHUNK_SIZE);
+                long position = start;
+                while (position < end) {
+                    if (failed.get() || (streamController != null && streamController.isStopped())) return;
+                    int length = (int) Math.min(CHUNK_SIZE, end - position);
+                    int read = api.readFromFile(handle, buffer, 0, length);
+                    if (read <= 0) {
+                        throw new IOException("Unexpected end of file at position " + position + " of " + end);
+                    }
+                    ((Buffer) buffer).limit(read).position(0);
+                    while (buffer.hasRemaining()) {
+                        position += target.write(buffer, position);
+                    }
+                    ((Buffer) buffer).clear();
+                    reportProgress(read);
+                }
+            } catch (IOException | RuntimeException e) {
+                failure = e;
+                failed.set(true);
+                throw e;
+            } finally {
+                try {
+                    api.closeFile(handle);
+                } catch (RuntimeException e) {
+                    // Failure of closing must not hide the failure of reading
+                    if (failure == null) {
+                        failed.set(true);
+                        throw e;
+                    }
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+
+        private void reportProgress(long read) {
+            long processed = processedBytes.addAndGet(read);
+            if (streamController != null) {
+                synchronized (streamController) {
+                    streamController.onChunkProcessed(processed);
+                }
+            }
+        }
+    }
+}
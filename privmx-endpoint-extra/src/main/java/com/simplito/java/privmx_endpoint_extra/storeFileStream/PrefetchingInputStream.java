@@ -0,0 +1,230 @@
+//
+// PrivMX Endpoint Java Extra.
+// Copyright © 2025 Simplito sp. z o.o.
+//
+// This file is part of the PrivMX Platform (https://privmx.dev).
+// This software is Licensed under the MIT License.
+//
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+package com.simplito.java.privmx_endpoint_extra.storeFileStream;
+
+import com.simplito.java.privmx_endpoint.model.exceptions.NativeException;
+import com.simplito.java.privmx_endpoint.model.exceptions.PrivmxException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * {@link InputStream} reading file chunks ahead of the consumer on a background thread.
+ * While the consumer processes one chunk, the next ones are downloaded and decrypted.
+ * When file size is known, reading stops at the end of the file without an additional empty read.
+ * Chunks have a fixed size, or a size chosen before each read by an {@link AdaptiveChunkSizer}.
+ *
+ * @category store
+ */
+public class PrefetchingInputStream extends InputStream {
+    private static final Object END_OF_FILE = new Object();
+
+    private final ChunkReader reader;
+    private final AutoCloseable source;
+    private final long chunkSize;
+    private final AdaptiveChunkSizer chunkSizer;
+    private final BlockingQueue<Object> chunks;
+    private final Thread prefetcher;
+    private long remaining;
+    private byte[] current = new byte[0];
+    private int currentPosition = 0;
+    private boolean endOfFile = false;
+    private volatile boolean closed = false;
+
+    /**
+     * Reads a chunk of a file.
+     */
+    public interface ChunkReader {
+        /**
+         * Reads next chunk of the file.
+         *
+         * @param size size of the chunk to read
+         * @return read data, shorter than {@code size} at the end of the file
+         * @throws IOException     when the file is closed
+         * @throws PrivmxException when reading encounters an exception
+         * @throws NativeException when reading encounters an unknown exception
+         */
+        byte[] read(long size) throws IOException, PrivmxException, NativeException;
+    }
+
+    /**
+     * Creates instance of {@code PrefetchingInputStream}.
+     *
+     * @param reader         reads consecutive chunks of the file
+     * @param source         closed when the stream is closed
+     * @param fileSize       size of the file, or {@code -1} if unknown
+     * @param chunkSize      size of a single read chunk
+     * @param prefetchChunks maximum number of chunks read ahead of the consumer
+     * @throws IllegalArgumentException when {@code chunkSize} or {@code prefetchChunks} is not greater than 0
+     */
+    public PrefetchingInputStream(
+            ChunkReader reader,
+            AutoCloseable source,
+            long fileSize,
+            long chunkSize,
+            int prefetchChunks
+    ) throws IllegalArgumentException {
+        this(reader, source, fileSize, chunkSize, null, prefetchChunks);
+    }
+
+    /**
+     * Creates instance of {@code PrefetchingInputStream} reading chunks of size chosen by {@code chunkSizer},
+     * which is updated with the time of each read.
+     *
+     * @param reader         reads consecutive chunks of the file
+     * @param source         closed when the stream is closed
+     * @param fileSize       size of the file, or {@code -1} if unknown
+     * @param chunkSizer     chooses size of each read chunk
+     * @param prefetchChunks maximum number of chunks read ahead of the consumer
+     * @throws IllegalArgumentException when {@code prefetchChunks} is not greater than 0
+     */
+    public PrefetchingInputStream(
+            ChunkReader reader,
+            AutoCloseable source,
+            long fileSize,
+            AdaptiveChunkSizer chunkSizer,
+            int prefetchChunks
+    ) throws IllegalArgumentException {
+        this(reader, source, fileSize, chunkSizer.getMinChunkSize(), chunkSizer, prefetchChunks);
+    }
+
+    private PrefetchingInputStream(
+            ChunkReader reader,
+            AutoCloseable source,
+            long fileSize,
+            long chunkSize,
+            AdaptiveChunkSizer chunkSizer,
+            int prefetchChunks
+    ) throws IllegalArgumentException {
+        if (chunkSize <= 0 || prefetchChunks <= 0) {
+            throw new IllegalArgumentException("Chunk size and prefetch chunks must be greater than 0");
+        }
+        this.reader = reader;
+        this.source = source;
+        this.remaining = fileSize;
+        this.chunkSize = chunkSize;
+        this.chunkSizer = chunkSizer;
+        this.chunks = new ArrayBlockingQueue<>(prefetchChunks);
+        this.prefetcher = new Thread(this::prefetch, "PrefetchingInputStream");
+        this.prefetcher.setDaemon(true);
+        this.prefetcher.start();
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] single = new byte[1];
+        int read = read(single, 0, 1);
+        return read == -1 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (closed) throw new IOException("Stream is closed");
+        if (len == 0) return 0;
+        if (!fill()) return -1;
+        int count = Math.min(len, current.length - currentPosition);
+        System.arraycopy(current, currentPosition, b, off, count);
+        currentPosition += count;
+        return count;
+    }
+
+    @Override
+    public int available() throws IOException {
+        if (closed) throw new IOException("Stream is closed");
+        return current.length - currentPosition;
+    }
+
+    /**
+     * Stops prefetching and closes the file.
+     *
+     * @throws IOException when closing the file fails
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        prefetcher.interrupt();
+        try {
+            prefetcher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        chunks.clear();
+        try {
+            source.close();
+        } catch (Exception e) {
+            throw new IOException("Cannot close file: " + e.getMessage(), e);
+        }
+    }
+
+    private boolean fill() throws IOException {
+        while (currentPosition == current.length) {
+            if (endOfFile) return false;
+            Object next;
+            try {
+                next = chunks.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for data", e);
+            }
+            if (next == END_OF_FILE) {
+                endOfFile = true;
+                return false;
+            }
+            if (next instanceof Exception) {
+                endOfFile = true;
+                Exception cause = (Exception) next;
+                throw cause instanceof IOException
+                        ? (IOException) cause
+                        : new IOException("Cannot read file: " + cause.getMessage(), cause);
+            }
+            current = (byte[]) next;
+            currentPosition = 0;
+        }
+        return true;
+    }
+
+    private void prefetch() {
+        try {
+            while (!closed) {
+                long nextChunkSize = chunkSizer != null ? chunkSizer.getChunkSize() : chunkSize;
+                long size = remaining < 0 ? nextChunkSize : Math.min(nextChunkSize, remaining);
+                if (size == 0) {
+                    chunks.put(END_OF_FILE);
+                    return;
+                }
+                long start = System.nanoTime();
+                byte[] chunk = reader.read(size);
+                if (chunkSizer != null) chunkSizer.record(chunk.length, System.nanoTime() - start);
+                if (chunk.length > 0) {
+                    chunks.put(chunk);
+                }
+                if (chunk.length < size) {
+                    chunks.put(END_OF_FILE);
+                    return;
+                }
+                if (remaining > 0) remaining -= chunk.length;
+            }
+        } catch (InterruptedException ignored) {
+        } catch (Exception e) {
+            try {
+                chunks.put(e);
+            } catch (InterruptedException ignored) {
+            }
+        }
+    }
+}
@@ -0,0 +1,327 @@
+//
+// PrivMX Endpoint Java Extra.
+// Copyright © 2024 Simplito sp. z o.o.
+//
+// This file is part of the PrivMX Platform (https://privmx.dev).
+// This software is Licensed under the MIT License.
+//
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+
+package com.simplito.java.privmx_endpoint_extra.storeFileStream;
+
+import com.simplito.java.privmx_endpoint.model.File;
+import com.simplito.java.privmx_endpoint.model.exceptions.NativeException;
+import com.simplito.java.privmx_endpoint.model.exceptions.PrivmxException;
+import com.simplito.java.privmx_endpoint.modules.store.StoreApi;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Properties;
+import java.util.UUID;
+
+/**
+ * Transfers Store files from/to local files, keeping progress checkpoints in a local journal directory,
+ * so an interrupted transfer can be continued by calling the same method again, also after a process restart.
+ * <p>
+ * Downloads are resumed from the last checkpoint using {@link StoreApi#seekInFile(long, long)}. A checkpoint is
+ * written after the downloaded data is forced to the storage device, so data before it is never lost.
+ * The journal keeps a fingerprint of the Store file metadata and a checksum of the last chunk before
+ * the checkpoint. Before resuming, this chunk is read again from the Store file and from the local file,
+ * and the download starts again from the beginning when the metadata or any of these chunks has changed.
+ * <p>
+ * Store file handles cannot be continued after they are interrupted, so an interrupted upload is sent again
+ * from the beginning. The journal keeps ID of a completed upload together with a fingerprint of the local file,
+ * so uploading the same unchanged file again returns the ID without sending data, as long as the Store file
+ * still exists and until {@link #forgetUpload(String, Path)} is called.
+ *
+ * @category store
+ */
+public class ResumableTransferManager {
+    private static final String OFFSET = "offset";
+    private static final String FINGERPRINT = "fingerprint";
+    private static final String FILE_ID = "fileId";
+    private static final String CHECKSUM = "checksum";
+    private static final long CHECKSUM_CHUNK_SIZE = StoreFileStream.OPTIMAL_SEND_SIZE;
+
+    private final StoreApi api;
+    private final Path journalDirectory;
+    private long checkpointInterval = 64 * StoreFileStream.OPTIMAL_SEND_SIZE;
+
+    /**
+     * Creates instance of {@code ResumableTransferManager}.
+     *
+     * @param api              reference to Store API
+     * @param journalDirectory directory of the journal, created if it does not exist
+     * @throws IOException if the journal directory cannot be created
+     */
+    public ResumableTransferManager(StoreApi api, Path journalDirectory) throws IOException {
+        if (api == null) throw new NullPointerException("api could not be null");
+        this.api = api;
+        this.journalDirectory = Files.createDirectories(journalDirectory);
+    }
+
+    /**
+     * Sets how many bytes are downloaded between consecutive checkpoints.
+     * Each checkpoint forces downloaded data to the storage device.
+     *
+     * @param checkpointInterval number of bytes between checkpoints
+     * @throws IllegalArgumentException when {@code checkpointInterval} is not greater than 0
+     */
+    public void setCheckpointInterval(long checkpointInterval) throws IllegalArgumentException {
+        if (checkpointInterval <= 0) {
+            throw new IllegalArgumentException("Checkpoint interval must be greater than 0");
+        }
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Downloads Store file into a local file, continuing from the last checkpoint of
+     * a previous interrupted download of the same file to the same path.
+     *
+     * @param fileId           ID of the file to download
+     * @param target           path of the local file
+     * @param streamController controls the process of reading file, reports total number of bytes in the target
+     * @return ID of the read file
+     * @throws IOException           if there is an error while writing the local file or the journal,
+     *                               or the Store file ends before its size
+     * @throws IllegalStateException when storeApi is not initialized or there's no connection
+     * @throws PrivmxException       if there is an error while reading Store file
+     * @throws NativeException       if there is an unknown error while reading Store file
+     */
+    public String download(
+            String fileId,
+            Path target,
+            StoreFileStream.Controller streamController
+    ) throws IOException, IllegalStateException, PrivmxException, NativeException {
+        Path journal = journalPath("download", fileId, target);
+        File file = api.getFile(fileId);
+        long size = file.size;
+        String fingerprint = StoreFileStream.fingerprint(file);
+        Properties checkpoint = readJournal(journal);
+        long offset = 0;
+        String checksum = null;
+        if (checkpoint != null && fingerprint.equals(checkpoint.getProperty(FINGERPRINT))) {
+            offset = parseOffset(checkpoint.getProperty(OFFSET));
+            checksum = checkpoint.getProperty(CHECKSUM);
+        }
+
+        try (FileChannel channel = FileChannel.open(
+                target, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE
+        )) {
+            if (channel.size() < offset || checksum == null) offset = 0;
+            StoreFileStreamReader input = StoreFileStreamReader.openFile(api, fileId);
+            try {
+                if (offset > 0 && !isUnchanged(input, channel, offset, checksum)) {
+                    input.seek(0);
+                    offset = 0;
+                }
+                writeCheckpoint(journal, fingerprint, offset, offset > 0 ? checksum : null);
+                if (streamController != null) {
+                    long resumedBytes = offset;
+                    input.setProgressListener(processedBytes -> streamController.onChunkProcessed(resumedBytes + processedBytes));
+                }
+                ByteBuffer buffer = ByteBuffer.allocateDirect((int) StoreFileStream.OPTIMAL_SEND_SIZE);
+                long position = offset;
+                long lastCheckpoint = offset;
+                while (position < size) {
+                    if (streamController != null && streamController.isStopped()) {
+                        input.close();
+                    }
+                    int read = input.read(buffer);
+                    if (read <= 0) {
+                        throw new IOException("Unexpected end of file at position " + position + " of " + size);
+                    }
+                    ((Buffer) buffer).flip();
+                    while (buffer.hasRemaining()) {
+                        position += channel.write(buffer, position);
+                    }
+                    ((Buffer) buffer).clear();
+                    if (position - lastCheckpoint >= checkpointInterval) {
+                        channel.force(false);
+                        writeCheckpoint(journal, fingerprint, position, checksum(readLocal(channel, position)));
+                        lastCheckpoint = position;
+                    }
+                }
+                if (channel.size() > position) {
+                    channel.truncate(position);
+                }
+                channel.force(false);
+            } catch (IOException | RuntimeException e) {
+                StoreFileStream.closeAfterFailure(input, e);
+                throw e;
+            }
+            String closedFileId = input.close();
+            Files.deleteIfExists(journal);
+            return closedFileId;
+        }
+    }
+
+    /**
+     * Uploads local file as a new file in given Store. If the same unchanged file was already uploaded
+     * to the Store, returns ID of that upload without sending data.
+     *
+     * @param storeId          ID of the Store
+     * @param publicMeta       byte array of any arbitrary metadata that can be read by anyone
+     * @param privateMeta      byte array of any arbitrary metadata that will be encrypted before sending
+     * @param source           path of the local file
+     * @param streamController controls the process of writing file
+     * @return ID of the created file
+     * @throws IOException           if there is an error while reading the local file or writing the journal
+     * @throws IllegalStateException when {@code storeApi} is not initialized or there's no connection
+     * @throws PrivmxException       if there is an error while creating Store file
+     * @throws NativeException       if there is an unknown error while creating Store file
+     */
+    public String upload(
+            String storeId,
+            byte[] publicMeta,
+            byte[] privateMeta,
+            Path source,
+            StoreFileStream.Controller streamController
+    ) throws IOException, IllegalStateException, PrivmxException, NativeException {
+        Path journal = journalPath("upload", storeId, source);
+        String fingerprint = fingerprint(source, publicMeta, privateMeta);
+        Properties completed = readJournal(journal);
+        if (completed != null
+                && fingerprint.equals(completed.getProperty(FINGERPRINT))
+                && completed.getProperty(FILE_ID) != null
+                && exists(completed.getProperty(FILE_ID))) {
+            return completed.getProperty(FILE_ID);
+        }
+        String fileId = StoreFileStreamWriter.uploadFrom(api, storeId, publicMeta, privateMeta, source, streamController);
+        Properties properties = new Properties();
+        properties.setProperty(FINGERPRINT, fingerprint);
+        properties.setProperty(FILE_ID, fileId);
+        writeJournal(journal, properties);
+        return fileId;
+    }
+
+    /**
+     * Removes the journal entry of a completed upload, so the next upload of the file sends it again.
+     *
+     * @param storeId ID of the Store
+     * @param source  path of the local file
+     * @throws IOException if the journal entry cannot be removed
+     */
+    public void forgetUpload(String storeId, Path source) throws IOException {
+        Files.deleteIfExists(journalPath("upload", storeId, source));
+    }
+
+    private Path journalPath(String type, String id, Path path) {
+        String key = type + "\n" + id + "\n" + path.toAbsolutePath().normalize();
+        return journalDirectory.resolve(
+                type + "-" + UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)) + ".checkpoint"
+        );
+    }
+
+    private boolean exists(String fileId) throws IllegalStateException {
+        try {
+            api.getFile(fileId);
+            return true;
+        } catch (PrivmxException | NativeException e) {
+            return false;
+        }
+    }
+
+    // Damaged offset is treated as missing, so the download starts from the beginning
+    private static long parseOffset(String offset) {
+        if (offset == null) return 0;
+        try {
+            return Math.max(0, Long.parseLong(offset));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private void writeCheckpoint(Path journal, String fingerprint, long offset, String checksum) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty(FINGERPRINT, fingerprint);
+        properties.setProperty(OFFSET, Long.toString(offset));
+        if (checksum != null) {
+            properties.setProperty(CHECKSUM, checksum);
+        }
+        writeJournal(journal, properties);
+    }
+
+    // Compares the last chunk before the checkpoint in both files with the checksum written with the checkpoint
+    private static boolean isUnchanged(
+            StoreFileStreamReader input,
+            FileChannel channel,
+            long offset,
+            String checksum
+    ) throws IOException, PrivmxException, NativeException {
+        if (!checksum.equals(checksum(readLocal(channel, offset)))) return false;
+        ByteBuffer remote = ByteBuffer.allocate((int) Math.min(CHECKSUM_CHUNK_SIZE, offset));
+        input.seek(offset - remote.capacity());
+        while (remote.hasRemaining()) {
+            if (input.read(remote) <= 0) return false;
+        }
+        ((Buffer) remote).flip();
+        return checksum.equals(checksum(remote));
+    }
+
+    private static ByteBuffer readLocal(FileChannel channel, long end) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(CHECKSUM_CHUNK_SIZE, end));
+        long start = end - buffer.capacity();
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, start + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of local file");
+            }
+        }
+        ((Buffer) buffer).flip();
+        return buffer;
+    }
+
+    private static String checksum(ByteBuffer data) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(data);
+            return Base64.getEncoder().encodeToString(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Properties readJournal(Path journal) {
+        if (!Files.exists(journal)) return null;
+        Properties properties = new Properties();
+        try (InputStream input = Files.newInputStream(journal)) {
+            properties.load(input);
+        } catch (IOException | IllegalArgumentException e) {
+            // Damaged journal entry is treated as missing
+            return null;
+        }
+        return properties;
+    }
+
+    private static void writeJournal(Path journal, Properties properties) throws IOException {
+        Path temporary = journal.resolveSibling(journal.getFileName() + ".tmp");
+        try (OutputStream output = Files.newOutputStream(temporary)) {
+            properties.store(output, null);
+        }
+        Files.move(temporary, journal, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static String fingerprint(Path source, byte[] publicMeta, byte[] privateMeta) throws IOException {
+        return Files.size(source) + ":"
+                + Files.getLastModifiedTime(source).toMillis() + ":"
+                + Arrays.hashCode(publicMeta) + ":"
+                + Arrays.hashCode(privateMeta);
+    }
+}
@@ -0,0 +1,147 @@
+//
+// PrivMX Endpoint Java Extra.
+// Copyright © 2024 Simplito sp. z o.o.
+//
+// This file is part of the PrivMX Platform (https://privmx.dev).
+// This software is Licensed under the MIT License.
+//
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+
+package com.simplito.java.privmx_endpoint_extra.storeFileStream;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Bounded LRU cache of decrypted, block-aligned chunks of Store files.
+ * One instance can be shared by many {@link StoreFileChannel} instances; channels of the same file
+ * reuse blocks read by each other. When the total size of cached blocks exceeds the limit,
+ * the least recently used blocks are removed.
+ * <p>
+ * Blocks are cached together with a version of the file read by {@link StoreFileChannel#open} from its
+ * metadata, so channels opened after an update do not read blocks of the previous version.
+ * The version cannot tell apart updates that keep size and metadata unchanged; call {@link #invalidate(String)}
+ * after such updates (e.g. on {@code StoreFileUpdatedEvent}). It also removes blocks of previous versions earlier
+ * than the LRU policy would.
+ *
+ * @category store
+ */
+public class StoreFileBlockCache {
+    private final long blockSize;
+    private final long maxBytes;
+    private final LinkedHashMap<Key, byte[]> blocks = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedBytes = 0;
+
+    /**
+     * Creates instance of {@code StoreFileBlockCache} with blocks of size {@link StoreFileStream#OPTIMAL_SEND_SIZE}.
+     *
+     * @param maxBytes maximum total size of cached blocks
+     * @throws IllegalArgumentException when {@code maxBytes} is not greater than 0
+     */
+    public StoreFileBlockCache(long maxBytes) throws IllegalArgumentException {
+        this(StoreFileStream.OPTIMAL_SEND_SIZE, maxBytes);
+    }
+
+    /**
+     * Creates instance of {@code StoreFileBlockCache}.
+     *
+     * @param blockSize size of a single cached block
+     * @param maxBytes  maximum total size of cached blocks
+     * @throws IllegalArgumentException when {@code blockSize} or {@code maxBytes} is not greater than 0
+     */
+    public StoreFileBlockCache(long blockSize, long maxBytes) throws IllegalArgumentException {
+        if (blockSize <= 0 || blockSize > Integer.MAX_VALUE || maxBytes <= 0) {
+            throw new IllegalArgumentException("Block size and max bytes must be greater than 0");
+        }
+        this.blockSize = blockSize;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns size of a single cached block.
+     *
+     * @return block size in bytes
+     */
+    public long getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Returns total size of currently cached blocks.
+     *
+     * @return cached bytes
+     */
+    public synchronized long getCachedBytes() {
+        return cachedBytes;
+    }
+
+    /**
+     * Removes all cached blocks of given file.
+     *
+     * @param fileId ID of the file
+     */
+    public synchronized void invalidate(String fileId) {
+        Iterator<Map.Entry<Key, byte[]>> iterator = blocks.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Key, byte[]> entry = iterator.next();
+            if (entry.getKey().fileId.equals(fileId)) {
+                cachedBytes -= entry.getValue().length;
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Removes all cached blocks.
+     */
+    public synchronized void clear() {
+        blocks.clear();
+        cachedBytes = 0;
+    }
+
+    synchronized byte[] get(String fileId, String version, long blockIndex) {
+        return blocks.get(new Key(fileId, version, blockIndex));
+    }
+
+    synchronized void put(String fileId, String version, long blockIndex, byte[] block) {
+        if (block.length > maxBytes) return;
+        byte[] previous = blocks.put(new Key(fileId, version, blockIndex), block);
+        if (previous != null) cachedBytes -= previous.length;
+        cachedBytes += block.length;
+        Iterator<byte[]> iterator = blocks.values().iterator();
+        while (cachedBytes > maxBytes && iterator.hasNext()) {
+            cachedBytes -= iterator.next().length;
+            iterator.remove();
+        }
+    }
+
+    private static class Key {
+        private final String fileId;
+        private final String version;
+        private final long blockIndex;
+
+        private Key(String fileId, String version, long blockIndex) {
+            this.fileId = fileId;
+            this.version = version;
+            this.blockIndex = blockIndex;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return blockIndex == key.blockIndex && fileId.equals(key.fileId) && version.equals(key.version);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(fileId, version, blockIndex);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+//
+// PrivMX Endpoint Java Extra.
+// Copyright © 2024 Simplito sp. z o.o.
+//
+// This file is part of the PrivMX Platform (https://privmx.dev).
+// This software is Licensed under the MIT License.
+//
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+
+package com.simplito.java.privmx_endpoint_extra.storeFileStream;
+
+import com.simplito.java.privmx_endpoint.model.File;
+import com.simplito.java.privmx_endpoint.model.exceptions.NativeException;
+import com.simplito.java.privmx_endpoint.model.exceptions.PrivmxException;
+import com.simplito.java.privmx_endpoint.modules.store.StoreApi;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.SeekableByteChannel;
+
+/**
+ * Read-only {@link SeekableByteChannel} over a Store file. Data is read in blocks aligned to the block size
+ * of the {@link StoreFileBlockCache}, so repeated reads of the same regions (e.g. seeking in media
+ * or reading the central directory of a ZIP archive and then its entries) are served from the cache
+ * instead of downloading and decrypting them again.
+ *
+ * @category store
+ */
+public class StoreFileChannel implements SeekableByteChannel {
+    private final StoreFileStreamReader reader;
+    private final String fileId;
+    private final String version;
+    private final long size;
+    private final StoreFileBlockCache cache;
+    private long position = 0;
+    private long readerPosition = 0;
+    private boolean open = true;
+
+    private StoreFileChannel(
+            StoreFileStreamReader reader,
+            String fileId,
+            String version,
+            long size,
+            StoreFileBlockCache cache
+    ) {
+        this.reader = reader;
+        this.fileId = fileId;
+        this.version = version;
+        this.size = size;
+        this.cache = cache;
+    }
+
+    /**
+     * Opens Store file as a channel. The file size and its version used to key cached blocks
+     * are read from {@link StoreApi#getFile(String)}.
+     *
+     * @param api    reference to Store API
+     * @param fileId ID of the file to open
+     * @param cache  cache of decrypted blocks, can be shared by many channels
+     * @return channel reading the Store file
+     * @throws IllegalStateException when {@code storeApi} is not initialized or there's no connection
+     * @throws PrivmxException       if there is an error while opening Store file
+     * @throws NativeException       if there is an unknown error while opening Store file
+     */
+    public static StoreFileChannel open(
+            StoreApi api,
+            String fileId,
+            StoreFileBlockCache cache
+    ) throws IllegalStateException, PrivmxException, NativeException {
+        if (cache == null) throw new NullPointerException("cache could not be null");
+        File file = api.getFile(fileId);
+        return new StoreFileChannel(
+                StoreFileStreamReader.openFile(api, fileId),
+                fileId,
+                StoreFileStream.fingerprint(file),
+                file.size,
+                cache
+        );
+    }
+
+    /**
+     * Reads bytes from the current position and moves the position by the number of read bytes.
+     *
+     * @param dst buffer to write read data
+     * @return number of read bytes, or {@code -1} if the position is at the end of the file
+     * @throws IOException when the channel is closed or reading fails
+     */
+    @Override
+    public synchronized int read(ByteBuffer dst) throws IOException {
+        int read = read(dst, position);
+        if (read > 0) position += read;
+        return read;
+    }
+
+    /**
+     * Reads bytes from given position. Does not change the position of the channel.
+     *
+     * @param dst      buffer to write read data
+     * @param position position in the file to read from
+     * @return number of read bytes, or {@code -1} if {@code position} is at or after the end of the file
+     * @throws IOException when the channel is closed, reading fails or the file ends before its size
+     */
+    public synchronized int read(ByteBuffer dst, long position) throws IOException {
+        if (!open) throw new ClosedChannelException();
+        if (position < 0) throw new IllegalArgumentException("Position cannot be negative");
+        if (position >= size) return -1;
+        long blockSize = cache.getBlockSize();
+        int read = 0;
+        while (dst.hasRemaining() && position < size) {
+            long blockIndex = position / blockSize;
+            byte[] block = readBlock(blockIndex);
+            int offset = (int) (position - blockIndex * blockSize);
+            if (offset >= block.length) {
+                throw new IOException("Unexpected end of file at position " + position + " of " + size);
+            }
+            int count = Math.min(dst.remaining(), block.length - offset);
+            dst.put(block, offset, count);
+            position += count;
+            read += count;
+        }
+        return read;
+    }
+
+    /**
+     * Store files are read-only.
+     *
+     * @throws NonWritableChannelException always
+     */
+    @Override
+    public int write(ByteBuffer src) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public synchronized long position() throws IOException {
+        if (!open) throw new ClosedChannelException();
+        return position;
+    }
+
+    @Override
+    public synchronized StoreFileChannel position(long newPosition) throws IOException {
+        if (!open) throw new ClosedChannelException();
+        if (newPosition < 0) throw new IllegalArgumentException("Position cannot be negative");
+        position = newPosition;
+        return this;
+    }
+
+    @Override
+    public long size() throws IOException {
+        if (!isOpen()) throw new ClosedChannelException();
+        return size;
+    }
+
+    /**
+     * Store files are read-only.
+     *
+     * @throws NonWritableChannelException always
+     */
+    @Override
+    public SeekableByteChannel truncate(long size) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public synchronized boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * Closes the file. Cached blocks stay available to other channels.
+     *
+     * @throws IOException when closing the file fails
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (!open) return;
+        open = false;
+        try {
+            reader.close();
+        } catch (PrivmxException | NativeException | IllegalStateException e) {
+            throw new IOException("Cannot close file: " + e.getMessage(), e);
+        }
+    }
+
+    private byte[] readBlock(long blockIndex) throws IOException {
+        byte[] block = cache.get(fileId, version, blockIndex);
+        if (block != null) return block;
+        long blockStart = blockIndex * cache.getBlockSize();
+        try {
+            if (readerPosition != blockStart) {
+                reader.seek(blockStart);
+            }
+            block = reader.read(Math.min(cache.getBlockSize(), size - blockStart));
+        } catch (PrivmxException | NativeException | IllegalStateException e) {
+            readerPosition = -1;
+            throw new IOException("Cannot read file: " + e.getMessage(), e);
+        }
+        readerPosition = blockStart + block.length;
+        cache.put(fileId, version, blockIndex, block);
+        return block;
+    }
+}
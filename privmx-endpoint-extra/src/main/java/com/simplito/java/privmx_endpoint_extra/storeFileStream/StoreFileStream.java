@@ -11,10 +11,13 @@
 
 package com.simplito.java.privmx_endpoint_extra.storeFileStream;
 
+import com.simplito.java.privmx_endpoint.model.File;
 import com.simplito.java.privmx_endpoint.model.exceptions.NativeException;
 import com.simplito.java.privmx_endpoint.model.exceptions.PrivmxException;
 import com.simplito.java.privmx_endpoint.modules.store.StoreApi;
 
+import java.util.Arrays;
+
 /**
  * Base class for Store file streams. Implements progress listeners.
  *
@@ -102,11 +105,31 @@ public abstract class StoreFileStream {
         return (/*closedFileId =*/ storeApi.closeFile(handle));
     }
 
+    // Closes the stream after a failure, without hiding the failure
+    static void closeAfterFailure(StoreFileStream stream, Exception failure) {
+        if (stream.isClosed()) return;
+        try {
+            stream.close();
+        } catch (RuntimeException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    // Identifies a version of the file as far as its metadata allows; the server exposes no content version
+    static String fingerprint(File file) {
+        return file.size + ":"
+                + (file.info != null ? file.info.createDate : null) + ":"
+                + file.authorPubKey + ":"
+                + Arrays.hashCode(file.publicMeta) + ":"
+                + Arrays.hashCode(file.privateMeta);
+    }
+
     /**
      * Manages sending/reading files using {@link java.io.InputStream}/{@link java.io.OutputStream}.
      */
     public static class Controller implements ProgressListener{
         private boolean isStopped = false;
+        private volatile AdaptiveChunkSizer chunkSizer;
 
         /**
          * Stops reading/writing file after processing the current chunk.
@@ -123,6 +146,23 @@ public abstract class StoreFileStream {
             return isStopped;
         }
 
+        /**
+         * Sets chunk sizer used instead of the fixed {@link StoreFileStream#OPTIMAL_SEND_SIZE}
+         * by stream helper methods reading/writing with this controller.
+         * @param chunkSizer chunk sizer, or {@code null} to use the fixed chunk size
+         */
+        public final void setChunkSizer(AdaptiveChunkSizer chunkSizer){
+            this.chunkSizer = chunkSizer;
+        }
+
+        /**
+         * Returns chunk sizer set for this controller.
+         * @return chunk sizer, or {@code null} if the fixed chunk size is used
+         */
+        public final AdaptiveChunkSizer getChunkSizer(){
+            return chunkSizer;
+        }
+
         /**
          * Override this method to handle event when each chunk was sent successfully.
          *
@@ -17,6 +17,11 @@ import com.simplito.java.privmx_endpoint.modules.store.StoreApi;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 
 /**
@@ -54,6 +59,28 @@ public class StoreFileStreamReader extends StoreFileStream {
         );
     }
 
+    /**
+     * Opens Store file as {@link PrefetchingInputStream} reading chunks of size {@link StoreFileStream#OPTIMAL_SEND_SIZE}
+     * ahead of the consumer. The file size is read from {@link StoreApi#getFile(String)}, so reading ends without
+     * an additional empty read.
+     *
+     * @param api            reference to Store API
+     * @param fileId         ID of the file to open
+     * @param prefetchChunks maximum number of chunks read ahead of the consumer
+     * @return stream reading the Store file, closing it closes the file
+     * @throws IllegalStateException when {@code storeApi} is not initialized or there's no connection
+     * @throws PrivmxException       if there is an error while opening Store file
+     * @throws NativeException       if there is an unknown error while opening Store file
+     */
+    public static PrefetchingInputStream openInputStream(
+            StoreApi api,
+            String fileId,
+            int prefetchChunks
+    ) throws IllegalStateException, PrivmxException, NativeException {
+        long size = api.getFile(fileId).size;
+        return StoreFileStreamReader.openFile(api, fileId).asInputStream(prefetchChunks, size);
+    }
+
     /**
      * Opens Store file and writes it into {@link OutputStream}.
      *
@@ -97,18 +124,136 @@ public class StoreFileStreamReader extends StoreFileStream {
         if (streamController != null) {
             input.setProgressListener(streamController);
         }
+        AdaptiveChunkSizer chunkSizer = streamController != null ? streamController.getChunkSizer() : null;
         byte[] chunk;
+        long chunkSize;
         do {
             if (streamController != null && streamController.isStopped()) {
                 input.close();
             }
-            chunk = input.read(StoreFileStream.OPTIMAL_SEND_SIZE);
+            chunkSize = chunkSizer != null ? chunkSizer.getChunkSize() : StoreFileStream.OPTIMAL_SEND_SIZE;
+            long start = System.nanoTime();
+            chunk = input.read(chunkSize);
+            if (chunkSizer != null) chunkSizer.record(chunk.length, System.nanoTime() - start);
             outputStream.write(chunk);
-        } while (chunk.length == StoreFileStream.OPTIMAL_SEND_SIZE);
+        } while (chunk.length == chunkSize);
 
         return input.close();
     }
 
+    /**
+     * Downloads Store file into a local file. Existing file is overwritten.
+     *
+     * @param api    reference to Store API
+     * @param fileId ID of the file to download
+     * @param path   path of the local file
+     * @return ID of the read file
+     * @throws IOException           if there is an error while writing the local file or the file ends before its size
+     * @throws IllegalStateException when storeApi is not initialized or there's no connection
+     * @throws PrivmxException       if there is an error while reading Store file
+     * @throws NativeException       if there is an unknown error while reading Store file
+     */
+    public static String downloadTo(
+            StoreApi api,
+            String fileId,
+            Path path
+    ) throws IOException, IllegalStateException, PrivmxException, NativeException {
+        return StoreFileStreamReader.downloadTo(api, fileId, path, null);
+    }
+
+    /**
+     * Downloads Store file into a local file. Existing file is overwritten.
+     *
+     * @param api              reference to Store API
+     * @param fileId           ID of the file to download
+     * @param path             path of the local file
+     * @param streamController controls the process of reading file
+     * @return ID of the read file
+     * @throws IOException           if there is an error while writing the local file or the file ends before its size
+     * @throws IllegalStateException when storeApi is not initialized or there's no connection
+     * @throws PrivmxException       if there is an error while reading Store file
+     * @throws NativeException       if there is an unknown error while reading Store file
+     */
+    public static String downloadTo(
+            StoreApi api,
+            String fileId,
+            Path path,
+            Controller streamController
+    ) throws IOException, IllegalStateException, PrivmxException, NativeException {
+        try (FileChannel target = FileChannel.open(
+                path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING
+        )) {
+            return StoreFileStreamReader.downloadTo(api, fileId, target, streamController);
+        }
+    }
+
+    /**
+     * Downloads Store file into {@link FileChannel}, starting at position {@code 0}.
+     * The channel is preallocated to the size of the Store file and data is read
+     * into a reused direct buffer, without copying it through {@code byte[]} arrays.
+     *
+     * @param api              reference to Store API
+     * @param fileId           ID of the file to download
+     * @param target           channel to write downloaded data
+     * @param streamController controls the process of reading file
+     * @return ID of the read file
+     * @throws IOException           if there is an error while writing the channel or the file ends before its size
+     * @throws IllegalStateException when storeApi is not initialized or there's no connection
+     * @throws PrivmxException       if there is an error while reading Store file
+     * @throws NativeException       if there is an unknown error while reading Store file
+     */
+    public static String downloadTo(
+            StoreApi api,
+            String fileId,
+            FileChannel target,
+            Controller streamController
+    ) throws IOException, IllegalStateException, PrivmxException, NativeException {
+        long size = api.getFile(fileId).size;
+        if (size > 0 && target.size() < size) {
+            target.write(ByteBuffer.allocate(1), size - 1);
+        }
+        StoreFileStreamReader input = StoreFileStreamReader.openFile(api, fileId);
+        if (streamController != null) {
+            input.setProgressListener(streamController);
+        }
+        AdaptiveChunkSizer chunkSizer = streamController != null ? streamController.getChunkSizer() : null;
+        ByteBuffer buffer = ByteBuffer.allocateDirect((int) (chunkSizer != null
+                ? Math.min(chunkSizer.getMaxChunkSize(), Math.max(size, 1))
+                : StoreFileStream.OPTIMAL_SEND_SIZE));
+        try {
+            long position = 0;
+            while (position < size) {
+                if (streamController != null && streamController.isStopped()) {
+                    input.close();
+                }
+                if (chunkSizer != null) {
+                    ((Buffer) buffer).limit((int) Math.min(buffer.capacity(), chunkSizer.getChunkSize()));
+                }
+                long start = System.nanoTime();
+                int read = input.read(buffer);
+                if (chunkSizer != null) chunkSizer.record(read, System.nanoTime() - start);
+                if (read <= 0) {
+                    throw new IOException("Unexpected end of file at position " + position + " of " + size);
+                }
+                ((Buffer) buffer).flip();
+                while (buffer.hasRemaining()) {
+                    position += target.write(buffer, position);
+                }
+                ((Buffer) buffer).clear();
+            }
+            if (target.size() > position) {
+                target.truncate(position);
+            }
+        } catch (IOException | RuntimeException e) {
+            closeAfterFailure(input, e);
+            throw e;
+        }
+        return input.close();
+    }
+
     /**
      * Reads file data and moves the cursor. If read data size is less than length, then EOF.
      *
@@ -126,6 +271,76 @@ public class StoreFileStreamReader extends StoreFileStream {
         return result;
     }
 
+    /**
+     * Reads file data into the remaining space of the buffer and moves the cursor.
+     * If read data size is less than the remaining space, then EOF.
+     *
+     * @param dst buffer to which data is written, a direct buffer avoids copying
+     * @return number of read bytes
+     * @throws IOException           when {@code this} is closed
+     * @throws PrivmxException       when method encounters an exception
+     * @throws NativeException       when method encounters an unknown exception
+     * @throws IllegalStateException when {@link #storeApi} is closed
+     */
+    public int read(ByteBuffer dst) throws IOException, PrivmxException, NativeException, IllegalStateException {
+        if (isClosed()) throw new IOException("File handle is closed");
+        int read = storeApi.readFromFile(handle, dst);
+        callChunkProcessed((long) read);
+        return read;
+    }
+
+    /**
+     * Returns {@link PrefetchingInputStream} reading this file from the current cursor position
+     * in chunks of size {@link StoreFileStream#OPTIMAL_SEND_SIZE}.
+     * Closing the stream closes this file.
+     *
+     * @param prefetchChunks maximum number of chunks read ahead of the consumer
+     * @return stream reading this file
+     */
+    public PrefetchingInputStream asInputStream(int prefetchChunks) {
+        return asInputStream(prefetchChunks, -1);
+    }
+
+    /**
+     * Returns {@link PrefetchingInputStream} reading {@code size} bytes of this file from the current cursor
+     * position in chunks of size {@link StoreFileStream#OPTIMAL_SEND_SIZE}.
+     * Closing the stream closes this file.
+     *
+     * @param prefetchChunks maximum number of chunks read ahead of the consumer
+     * @param size           number of bytes left to read, or {@code -1} if unknown
+     * @return stream reading this file
+     */
+    public PrefetchingInputStream asInputStream(int prefetchChunks, long size) {
+        return new PrefetchingInputStream(
+                this::read,
+                this::close,
+                size,
+                StoreFileStream.OPTIMAL_SEND_SIZE,
+                prefetchChunks
+        );
+    }
+
+    /**
+     * Returns {@link PrefetchingInputStream} reading {@code size} bytes of this file from the current cursor
+     * position in chunks of size chosen by {@code chunkSizer}.
+     * Closing the stream closes this file.
+     *
+     * @param prefetchChunks maximum number of chunks read ahead of the consumer
+     * @param size           number of bytes left to read, or {@code -1} if unknown
+     * @param chunkSizer     chooses size of each read chunk
+     * @return stream reading this file
+     */
+    public PrefetchingInputStream asInputStream(int prefetchChunks, long size, AdaptiveChunkSizer chunkSizer) {
+        if (chunkSizer == null) throw new NullPointerException("chunkSizer could not be null");
+        return new PrefetchingInputStream(
+                this::read,
+                this::close,
+                size,
+                chunkSizer,
+                prefetchChunks
+        );
+    }
+
     /**
      * Moves read cursor.
      *
@@ -17,7 +17,15 @@ import com.simplito.java.privmx_endpoint.modules.store.StoreApi;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 /**
  * Manages handle for file writing.
@@ -25,6 +33,9 @@ import java.util.Arrays;
  * @category store
  */
 public class StoreFileStreamWriter extends StoreFileStream {
+    private static final Object END_OF_STREAM = new Object();
+    private static final long MAPPED_REGION_SIZE = 512 * StoreFileStream.OPTIMAL_SEND_SIZE;
+    private static final long READER_STOP_TIMEOUT_MILLIS = 1000;
 
     private StoreFileStreamWriter(Long handle, StoreApi storeApi) {
         super(handle, storeApi);
@@ -148,15 +159,7 @@ public class StoreFileStreamWriter extends StoreFileStream {
         if (streamController != null) {
             output.setProgressListener(streamController);
         }
-        byte[] chunk = new byte[(int) StoreFileStream.OPTIMAL_SEND_SIZE];
-        int read;
-        while ((read = inputStream.read(chunk)) >= 0) {
-            if (streamController != null && streamController.isStopped()) {
-                output.close();
-            }
-            output.write(Arrays.copyOf(chunk, read));
-        }
-        return output.close();
+        return output.writeStream(inputStream, streamController);
     }
 
     /**
@@ -215,21 +218,171 @@ public class StoreFileStreamWriter extends StoreFileStream {
         if (streamController != null) {
             output.setProgressListener(streamController);
         }
+        AdaptiveChunkSizer chunkSizer = streamController != null ? streamController.getChunkSizer() : null;
         byte[] chunk = new byte[(int) StoreFileStream.OPTIMAL_SEND_SIZE];
         int read;
         while (true) {
             if (streamController != null && streamController.isStopped()) {
                 output.close();
             }
+            if (chunkSizer != null && chunk.length != chunkSizer.getChunkSize()) {
+                chunk = new byte[(int) chunkSizer.getChunkSize()];
+            }
             if ((read = inputStream.read(chunk)) <= 0) {
                 break;
             }
+            long start = System.nanoTime();
             output.write(Arrays.copyOf(chunk, read));
+            if (chunkSizer != null) chunkSizer.record(read, System.nanoTime() - start);
         }
         return output.close();
     }
 
 
+    /**
+     * Creates new file in given Store and writes data from given {@link InputStream} in pipelined mode.
+     * A background thread reads next chunks from {@code inputStream} while previous ones are encrypted and sent.
+     * Chunks are stored in a pool of {@code bufferCount} reused buffers of size {@link StoreFileStream#OPTIMAL_SEND_SIZE}.
+     * Before returning, also on failure, it waits up to {@value #READER_STOP_TIMEOUT_MILLIS} ms for the background thread
+     * to stop reading {@code inputStream}. Reads that do not respond to interrupts (e.g. from sockets) can continue
+     * after that, so close {@code inputStream} when this method fails.
+     *
+     * @param api              reference to Store API
+     * @param storeId          ID of the Store
+     * @param publicMeta       byte array of any arbitrary metadata that can be read by anyone
+     * @param privateMeta      byte array of any arbitrary metadata that will be encrypted before sending
+     * @param size             size of data to write
+     * @param inputStream      stream with data to write to the file
+     * @param streamController controls the process of writing file
+     * @param bufferCount      number of buffers read ahead of sending, at least 2 to overlap reading and sending
+     * @return ID of the created file
+     * @throws IOException              if there is an error while reading stream or {@code this} is closed
+     * @throws IllegalArgumentException when {@code bufferCount} is not greater than 0
+     * @throws IllegalStateException    when {@code storeApi} is not initialized or there's no connection
+     * @throws PrivmxException          if there is an error while creating Store file metadata
+     * @throws NativeException          if there is an unknown error while creating Store file metadata
+     */
+    public static String createFile(
+            StoreApi api,
+            String storeId,
+            byte[] publicMeta,
+            byte[] privateMeta,
+            long size,
+            InputStream inputStream,
+            Controller streamController,
+            int bufferCount
+    ) throws IOException, IllegalArgumentException, PrivmxException, NativeException, IllegalStateException {
+        if (api == null) throw new NullPointerException("api could not be null");
+        if (bufferCount <= 0) throw new IllegalArgumentException("Buffer count must be greater than 0");
+        StoreFileStreamWriter output = StoreFileStreamWriter.createFile(api, storeId, publicMeta, privateMeta, size);
+        return output.writePipelined(inputStream, streamController, bufferCount);
+    }
+
+    /**
+     * Updates existing file and writes data from passed {@link InputStream} in pipelined mode.
+     * A background thread reads next chunks from {@code inputStream} while previous ones are encrypted and sent.
+     * Chunks are stored in a pool of {@code bufferCount} reused buffers of size {@link StoreFileStream#OPTIMAL_SEND_SIZE}.
+     * Before returning, also on failure, it waits up to {@value #READER_STOP_TIMEOUT_MILLIS} ms for the background thread
+     * to stop reading {@code inputStream}. Reads that do not respond to interrupts (e.g. from sockets) can continue
+     * after that, so close {@code inputStream} when this method fails.
+     *
+     * @param api              reference to Store API
+     * @param fileId           ID of the file to update
+     * @param publicMeta       new public metadata for the matching file
+     * @param privateMeta      new private (encrypted) metadata for the matching file
+     * @param size             size of data to write
+     * @param inputStream      stream with data to write to the file
+     * @param streamController controls the process of writing file
+     * @param bufferCount      number of buffers read ahead of sending, at least 2 to overlap reading and sending
+     * @return Updated file ID
+     * @throws IOException              if there is an error while reading stream or {@code this} is closed
+     * @throws IllegalArgumentException when {@code bufferCount} is not greater than 0
+     * @throws IllegalStateException    when {@code storeApi} is not initialized or there's no connection
+     * @throws PrivmxException          if there is an error while updating Store file metadata
+     * @throws NativeException          if there is an unknown error while updating Store file metadata
+     */
+    public static String updateFile(
+            StoreApi api,
+            String fileId,
+            byte[] publicMeta,
+            byte[] privateMeta,
+            long size,
+            InputStream inputStream,
+            Controller streamController,
+            int bufferCount
+    ) throws IOException, IllegalArgumentException, PrivmxException, NativeException, IllegalStateException {
+        if (api == null) throw new NullPointerException("api could not be null");
+        if (bufferCount <= 0) throw new IllegalArgumentException("Buffer count must be greater than 0");
+        StoreFileStreamWriter output = StoreFileStreamWriter.updateFile(api, fileId, publicMeta, privateMeta, size);
+        return output.writePipelined(inputStream, streamController, bufferCount);
+    }
+
+    /**
+     * Creates new file in given Store with the content of a local file.
+     * The local file is memory-mapped and sent in chunks of size {@link StoreFileStream#OPTIMAL_SEND_SIZE}
+     * directly from the mapped regions, without copying it through {@code byte[]} arrays.
+     *
+     * @param api              reference to Store API
+     * @param storeId          ID of the Store
+     * @param publicMeta       byte array of any arbitrary metadata that can be read by anyone
+     * @param privateMeta      byte array of any arbitrary metadata that will be encrypted before sending
+     * @param path             path of the local file
+     * @param streamController controls the process of writing file
+     * @return ID of the created file
+     * @throws IOException           if there is an error while reading the local file or {@code this} is closed
+     * @throws IllegalStateException when {@code storeApi} is not initialized or there's no connection
+     * @throws PrivmxException       if there is an error while creating Store file
+     * @throws NativeException       if there is an unknown error while creating Store file
+     */
+    public static String uploadFrom(
+            StoreApi api,
+            String storeId,
+            byte[] publicMeta,
+            byte[] privateMeta,
+            Path path,
+            Controller streamController
+    ) throws IOException, PrivmxException, NativeException, IllegalStateException {
+        if (api == null) throw new NullPointerException("api could not be null");
+        try (FileChannel source = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = source.size();
+            StoreFileStreamWriter output = StoreFileStreamWriter.createFile(api, storeId, publicMeta, privateMeta, size);
+            return output.writeMapped(source, size, streamController);
+        }
+    }
+
+    /**
+     * Updates existing file with the content of a local file.
+     * The local file is memory-mapped and sent in chunks of size {@link StoreFileStream#OPTIMAL_SEND_SIZE}
+     * directly from the mapped regions, without copying it through {@code byte[]} arrays.
+     *
+     * @param api              reference to Store API
+     * @param fileId           ID of the file to update
+     * @param publicMeta       new public metadata for the matching file
+     * @param privateMeta      new private (encrypted) metadata for the matching file
+     * @param path             path of the local file
+     * @param streamController controls the process of writing file
+     * @return Updated file ID
+     * @throws IOException           if there is an error while reading the local file or {@code this} is closed
+     * @throws IllegalStateException when {@code storeApi} is not initialized or there's no connection
+     * @throws PrivmxException       if there is an error while updating Store file
+     * @throws NativeException       if there is an unknown error while updating Store file
+     */
+    public static String updateFrom(
+            StoreApi api,
+            String fileId,
+            byte[] publicMeta,
+            byte[] privateMeta,
+            Path path,
+            Controller streamController
+    ) throws IOException, PrivmxException, NativeException, IllegalStateException {
+        if (api == null) throw new NullPointerException("api could not be null");
+        try (FileChannel source = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = source.size();
+            StoreFileStreamWriter output = StoreFileStreamWriter.updateFile(api, fileId, publicMeta, privateMeta, size);
+            return output.writeMapped(source, size, streamController);
+        }
+    }
+
     /**
      * Writes data to Store file.
      *
@@ -244,4 +397,156 @@ public class StoreFileStreamWriter extends StoreFileStream {
         storeApi.writeToFile(handle, data);
         callChunkProcessed((long) data.length);
     }
+
+    /**
+     * Writes remaining bytes of direct buffer to Store file and moves buffer position to its limit.
+     *
+     * @param data direct buffer with data to write (the recommended size of data chunk is {@link StoreFileStream#OPTIMAL_SEND_SIZE})
+     * @throws PrivmxException          if there is an error while writing chunk
+     * @throws NativeException          if there is an unknown error while writing chunk
+     * @throws IllegalArgumentException when {@code data} is not a direct buffer
+     * @throws IllegalStateException    when storeApi is not initialized or there's no connection
+     * @throws IOException              when {@code this} is closed
+     */
+    public void write(ByteBuffer data) throws PrivmxException, NativeException, IllegalArgumentException, IllegalStateException, IOException {
+        if (isClosed()) throw new IOException("File handle is closed");
+        int length = data.remaining();
+        storeApi.writeToFile(handle, data, data.position(), length);
+        ((Buffer) data).position(data.limit());
+        callChunkProcessed((long) length);
+    }
+
+    private String writeStream(
+            InputStream inputStream,
+            Controller streamController
+    ) throws IOException, PrivmxException, NativeException, IllegalStateException {
+        AdaptiveChunkSizer chunkSizer = streamController != null ? streamController.getChunkSizer() : null;
+        byte[] chunk = new byte[(int) StoreFileStream.OPTIMAL_SEND_SIZE];
+        int read;
+        while (true) {
+            if (chunkSizer != null && chunk.length != chunkSizer.getChunkSize()) {
+                chunk = new byte[(int) chunkSizer.getChunkSize()];
+            }
+            if ((read = inputStream.read(chunk)) < 0) break;
+            if (streamController != null && streamController.isStopped()) {
+                close();
+            }
+            long start = System.nanoTime();
+            write(Arrays.copyOf(chunk, read));
+            if (chunkSizer != null) chunkSizer.record(read, System.nanoTime() - start);
+        }
+        return close();
+    }
+
+    private String writeMapped(
+            FileChannel source,
+            long size,
+            Controller streamController
+    ) throws IOException, PrivmxException, NativeException, IllegalStateException {
+        if (streamController != null) {
+            setProgressListener(streamController);
+        }
+        AdaptiveChunkSizer chunkSizer = streamController != null ? streamController.getChunkSizer() : null;
+        long regionStart = 0;
+        while (regionStart < size) {
+            long regionSize = Math.min(MAPPED_REGION_SIZE, size - regionStart);
+            MappedByteBuffer region = source.map(FileChannel.MapMode.READ_ONLY, regionStart, regionSize);
+            int offset = 0;
+            while (offset < regionSize) {
+                if (streamController != null && streamController.isStopped()) {
+                    close();
+                }
+                if (isClosed()) throw new IOException("File handle is closed");
+                long chunkSize = chunkSizer != null ? chunkSizer.getChunkSize() : StoreFileStream.OPTIMAL_SEND_SIZE;
+                int length = (int) Math.min(chunkSize, regionSize - offset);
+                long start = System.nanoTime();
+                storeApi.writeToFile(handle, region, offset, length);
+                if (chunkSizer != null) chunkSizer.record(length, System.nanoTime() - start);
+                callChunkProcessed((long) length);
+                offset += length;
+            }
+            regionStart += regionSize;
+        }
+        return close();
+    }
+
+    private String writePipelined(
+            InputStream inputStream,
+            Controller streamController,
+            int bufferCount
+    ) throws IOException, PrivmxException, NativeException, IllegalStateException {
+        if (streamController != null) {
+            setProgressListener(streamController);
+        }
+        BlockingQueue<ByteBuffer> free = new ArrayBlockingQueue<>(bufferCount);
+        BlockingQueue<Object> filled = new ArrayBlockingQueue<>(bufferCount + 1);
+        for (int i = 0; i < bufferCount; i++) {
+            free.add(ByteBuffer.allocateDirect((int) StoreFileStream.OPTIMAL_SEND_SIZE));
+        }
+        Thread reader = new Thread(() -> readChunks(inputStream, free, filled), "StoreFileStreamWriter");
+        reader.setDaemon(true);
+        reader.start();
+        try {
+            while (true) {
+                Object next;
+                try {
+                    next = filled.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while reading stream", e);
+                }
+                if (next == END_OF_STREAM) break;
+                if (next instanceof Throwable) throw readFailure((Throwable) next);
+                ByteBuffer chunk = (ByteBuffer) next;
+                if (streamController != null && streamController.isStopped()) {
+                    close();
+                }
+                write(chunk);
+                ((Buffer) chunk).clear();
+                free.add(chunk);
+            }
+        } finally {
+            reader.interrupt();
+            try {
+                reader.join(READER_STOP_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return close();
+    }
+
+    private static IOException readFailure(Throwable failure) {
+        if (failure instanceof IOException) return (IOException) failure;
+        if (failure instanceof RuntimeException) throw (RuntimeException) failure;
+        if (failure instanceof Error) throw (Error) failure;
+        return new IOException("Cannot read stream", failure);
+    }
+
+    private static void readChunks(InputStream inputStream, BlockingQueue<ByteBuffer> free, BlockingQueue<Object> filled) {
+        byte[] transfer = new byte[(int) StoreFileStream.OPTIMAL_SEND_SIZE];
+        try {
+            while (true) {
+                ByteBuffer buffer = free.take();
+                int length = 0;
+                int read;
+                while (length < transfer.length
+                        && (read = inputStream.read(transfer, length, transfer.length - length)) >= 0) {
+                    length += read;
+                }
+                if (length > 0) {
+                    buffer.put(transfer, 0, length);
+                    ((Buffer) buffer).flip();
+                    filled.put(buffer);
+                }
+                if (length < transfer.length) {
+                    filled.put(END_OF_STREAM);
+                    return;
+                }
+            }
+        } catch (InterruptedException ignored) {
+        } catch (Throwable e) {
+            filled.offer(e);
+        }
+    }
 }
@@ -0,0 +1,231 @@
+//
+// PrivMX Endpoint Java.
+// Copyright © 2025 Simplito sp. z o.o.
+//
+// This file is part of the PrivMX Platform (https://privmx.dev).
+// This software is Licensed under the MIT License.
+//
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+#include "eventBuffer.h"
+#include <algorithm>
+#include <exception>
+#include <iostream>
+#include <thread>
+#include <privmx/endpoint/core/EventQueue.hpp>
+
+namespace privmx {
+    namespace wrapper {
+        bool EventFilter::accepts(const privmx::endpoint::core::Event &event) const {
+            if (event.type.rfind("lib", 0) == 0) return true;
+            return (types.empty() || types.count(event.type) > 0) &&
+                   (channels.empty() || channels.count(event.channel) > 0) &&
+                   (connectionIds.empty() || connectionIds.count(event.connectionId) > 0);
+        }
+
+        EventBuffer::EventBuffer() {
+            shards.emplace_back(new Shard());
+        }
+
+        EventBuffer &EventBuffer::getInstance() {
+            static EventBuffer *instance = []() {
+                auto buffer = new EventBuffer();
+                buffer->start();
+                return buffer;
+            }();
+            return *instance;
+        }
+
+        void EventBuffer::start() {
+            std::thread([this]() {
+                // Backs off while waitEvent keeps failing (e.g. after the library is torn down)
+                std::chrono::milliseconds backoff(0);
+                while (true) {
+                    try {
+                        push(privmx::endpoint::core::EventQueue::getInstance().waitEvent().get());
+                        backoff = std::chrono::milliseconds(0);
+                        continue;
+                    } catch (const std::exception &e) {
+                        if (backoff.count() == 0) {
+                            std::cerr << "EventBuffer: cannot wait for event: " << e.what() << std::endl;
+                        }
+                    } catch (...) {
+                        if (backoff.count() == 0) {
+                            std::cerr << "EventBuffer: cannot wait for event" << std::endl;
+                        }
+                    }
+                    backoff = std::min(std::max(backoff * 2, std::chrono::milliseconds(10)),
+                                       std::chrono::milliseconds(1000));
+                    std::this_thread::sleep_for(backoff);
+                }
+            }).detach();
+        }
+
+        size_t EventBuffer::shardOf(const privmx::endpoint::core::Event &event) const {
+            if (shardCount == 1 || event.connectionId < 0) return 0;
+            // Connection IDs are not uniformly distributed, so mix bits before taking the modulo
+            uint64_t hash = static_cast<uint64_t>(event.connectionId) * 0x9E3779B97F4A7C15ULL;
+            return static_cast<size_t>((hash >> 32) % shardCount);
+        }
+
+        void EventBuffer::push(EventPtr event) {
+            {
+                std::lock_guard<std::mutex> lock(mutex);
+                if (filter != nullptr && !filter->accepts(*event)) return;
+                pushLocked(event);
+            }
+            available.notify_one();
+        }
+
+        void EventBuffer::pushLocked(const EventPtr &event) {
+            if (event->type == "libBreak") {
+                // Every shard consumer has to be able to stop; whole-queue reads remove the other copies
+                for (size_t i = 0; i < shardCount; i++) {
+                    shards[i]->events.push_back(event);
+                    shards[i]->available.notify_one();
+                }
+                size += shardCount;
+                return;
+            }
+            Shard &shard = *shards[shardOf(*event)];
+            shard.events.push_back(event);
+            shard.available.notify_one();
+            size++;
+        }
+
+        void EventBuffer::setShardCount(size_t count) {
+            {
+                std::lock_guard<std::mutex> lock(mutex);
+                std::vector<EventPtr> buffered;
+                std::unordered_set<privmx::endpoint::core::Event *> unique;
+                for (size_t i = 0; i < shardCount; i++) {
+                    for (auto &event: shards[i]->events) {
+                        if (unique.insert(event.get()).second) buffered.push_back(std::move(event));
+                    }
+                    shards[i]->events.clear();
+                }
+                while (shards.size() < count) {
+                    shards.emplace_back(new Shard());
+                }
+                shardCount = count;
+                nextShard = 0;
+                size = 0;
+                for (auto &event: buffered) {
+                    pushLocked(event);
+                }
+                for (auto &shard: shards) {
+                    shard->available.notify_all();
+                }
+            }
+            available.notify_all();
+        }
+
+        size_t EventBuffer::getShardCount() {
+            std::lock_guard<std::mutex> lock(mutex);
+            return shardCount;
+        }
+
+        void EventBuffer::setFilter(std::shared_ptr<const EventFilter> filter) {
+            std::lock_guard<std::mutex> lock(mutex);
+            this->filter = std::move(filter);
+            if (this->filter == nullptr) return;
+            size = 0;
+            for (size_t i = 0; i < shardCount; i++) {
+                auto &events = shards[i]->events;
+                events.erase(
+                        std::remove_if(events.begin(), events.end(), [this](const EventPtr &event) {
+                            return !this->filter->accepts(*event);
+                        }),
+                        events.end());
+                size += events.size();
+            }
+        }
+
+        EventBuffer::EventPtr EventBuffer::popLocked(Shard &shard) {
+            EventPtr event = std::move(shard.events.front());
+            shard.events.pop_front();
+            size--;
+            return event;
+        }
+
+        EventBuffer::EventPtr EventBuffer::popLocked() {
+            for (size_t i = 0; i < shardCount; i++) {
+                Shard &shard = *shards[(nextShard + i) % shardCount];
+                if (!shard.events.empty()) {
+                    nextShard = (nextShard + i + 1) % shardCount;
+                    EventPtr event = popLocked(shard);
+                    if (shardCount > 1 && event->type == "libBreak") {
+                        removeCopiesLocked(event);
+                    }
+                    return event;
+                }
+            }
+            return nullptr;
+        }
+
+        void EventBuffer::removeCopiesLocked(const EventPtr &event) {
+            for (size_t i = 0; i < shardCount; i++) {
+                auto &events = shards[i]->events;
+                auto end = std::remove(events.begin(), events.end(), event);
+                size -= static_cast<size_t>(std::distance(end, events.end()));
+                events.erase(end, events.end());
+            }
+        }
+
+        EventBuffer::EventPtr EventBuffer::wait() {
+            std::unique_lock<std::mutex> lock(mutex);
+            available.wait(lock, [this]() { return size > 0; });
+            return popLocked();
+        }
+
+        EventBuffer::EventPtr EventBuffer::wait(std::chrono::milliseconds timeout) {
+            std::unique_lock<std::mutex> lock(mutex);
+            if (!available.wait_for(lock, timeout, [this]() { return size > 0; })) {
+                return nullptr;
+            }
+            return popLocked();
+        }
+
+        EventBuffer::EventPtr EventBuffer::poll() {
+            std::lock_guard<std::mutex> lock(mutex);
+            if (size == 0) return nullptr;
+            return popLocked();
+        }
+
+        std::vector<EventBuffer::EventPtr>
+        EventBuffer::drain(size_t maxEvents, std::chrono::milliseconds timeout) {
+            std::vector<EventPtr> result;
+            std::unique_lock<std::mutex> lock(mutex);
+            if (!available.wait_for(lock, timeout, [this]() { return size > 0; })) {
+                return result;
+            }
+            result.reserve(std::min(maxEvents, size));
+            // Size can drop by more than one per event when copies of libBreak are removed
+            while (result.size() < maxEvents && size > 0) {
+                result.push_back(popLocked());
+            }
+            return result;
+        }
+
+        std::vector<EventBuffer::EventPtr>
+        EventBuffer::drainShard(size_t shard, size_t maxEvents, std::chrono::milliseconds timeout) {
+            std::vector<EventPtr> result;
+            std::unique_lock<std::mutex> lock(mutex);
+            if (shard >= shards.size()) return result;
+            Shard &target = *shards[shard];
+            if (!target.available.wait_for(lock, timeout, [this, shard, &target]() {
+                return shard >= shardCount || !target.events.empty();
+            }) || shard >= shardCount) {
+                return result;
+            }
+            size_t count = std::min(maxEvents, target.events.size());
+            result.reserve(count);
+            for (size_t i = 0; i < count; i++) {
+                result.push_back(popLocked(target));
+            }
+            return result;
+        }
+    } // wrapper
+} // privmx
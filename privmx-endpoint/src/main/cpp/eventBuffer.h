@@ -0,0 +1,145 @@
+//
+// PrivMX Endpoint Java.
+// Copyright © 2025 Simplito sp. z o.o.
+//
+// This file is part of the PrivMX Platform (https://privmx.dev).
+// This software is Licensed under the MIT License.
+//
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+#ifndef PRIVMXENDPOINT_EVENTBUFFER_H
+#define PRIVMXENDPOINT_EVENTBUFFER_H
+
+#include <chrono>
+#include <condition_variable>
+#include <deque>
+#include <memory>
+#include <mutex>
+#include <string>
+#include <unordered_set>
+#include <vector>
+#include <privmx/endpoint/core/Events.hpp>
+
+namespace privmx {
+    namespace wrapper {
+        /**
+         * Set of accepted event types, channels and connection IDs.
+         * Empty set accepts any value. Library events always pass.
+         */
+        struct EventFilter {
+            std::unordered_set<std::string> types;
+            std::unordered_set<std::string> channels;
+            std::unordered_set<int64_t> connectionIds;
+
+            bool accepts(const privmx::endpoint::core::Event &event) const;
+        };
+
+        /**
+         * Buffers events taken from the global core::EventQueue.
+         * The core queue can only be waited on without a timeout, so a single pump thread
+         * moves events into this buffer, which supports timed and batched reads.
+         * Events are split into shards by connection ID, so each shard can be drained
+         * by a separate thread. All JNI EventQueue methods read events through this buffer.
+         */
+        class EventBuffer {
+        public:
+            using EventPtr = std::shared_ptr<privmx::endpoint::core::Event>;
+
+            /**
+             * Returns process-wide buffer, starting the pump thread on first use.
+             */
+            static EventBuffer &getInstance();
+
+            /**
+             * Blocks until an event is available in any shard and removes it from the buffer.
+             */
+            EventPtr wait();
+
+            /**
+             * Waits up to {@code timeout} for an event in any shard and removes it from the buffer.
+             *
+             * @return event or nullptr on timeout
+             */
+            EventPtr wait(std::chrono::milliseconds timeout);
+
+            /**
+             * Removes the first event of any shard without waiting.
+             *
+             * @return event or nullptr if the buffer is empty
+             */
+            EventPtr poll();
+
+            /**
+             * Waits up to {@code timeout} for the first event, then removes up to
+             * {@code maxEvents} events that are already buffered in any shard.
+             */
+            std::vector<EventPtr> drain(size_t maxEvents, std::chrono::milliseconds timeout);
+
+            /**
+             * Waits up to {@code timeout} for the first event of the given shard, then removes up to
+             * {@code maxEvents} events that are already buffered in it.
+             * Returns no events if the shard is not used after changing the shard count.
+             */
+            std::vector<EventPtr> drainShard(size_t shard, size_t maxEvents, std::chrono::milliseconds timeout);
+
+            /**
+             * Sets number of shards and moves buffered events to their new shards.
+             * Order of events of the same connection is preserved.
+             */
+            void setShardCount(size_t count);
+
+            /**
+             * Returns number of shards, 1 by default.
+             */
+            size_t getShardCount();
+
+            /**
+             * Sets filter applied before events are buffered and drops already buffered
+             * events rejected by it. Passing nullptr accepts all events.
+             */
+            void setFilter(std::shared_ptr<const EventFilter> filter);
+
+        private:
+            /**
+             * Events of connections assigned to one shard. Shards are never deleted,
+             * so threads waiting on them stay valid when the shard count decreases.
+             */
+            struct Shard {
+                std::condition_variable available;
+                std::deque<EventPtr> events;
+            };
+
+            EventBuffer();
+
+            void start();
+
+            void push(EventPtr event);
+
+            void pushLocked(const EventPtr &event);
+
+            size_t shardOf(const privmx::endpoint::core::Event &event) const;
+
+            EventPtr popLocked();
+
+            EventPtr popLocked(Shard &shard);
+
+            /**
+             * Removes copies of a libBreak event pushed to other shards,
+             * so whole-queue reads return it only once.
+             */
+            void removeCopiesLocked(const EventPtr &event);
+
+            std::mutex mutex;
+            std::condition_variable available;
+            std::vector<std::unique_ptr<Shard>> shards;
+            size_t shardCount = 1;
+            size_t nextShard = 0;
+            size_t size = 0;
+            std::shared_ptr<const EventFilter> filter;
+        };
+    } // wrapper
+} // privmx
+
+#endif //PRIVMXENDPOINT_EVENTBUFFER_H
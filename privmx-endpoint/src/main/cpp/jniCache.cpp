@@ -0,0 +1,468 @@
+//
+// PrivMX Endpoint Java.
+// Copyright © 2025 Simplito sp. z o.o.
+//
+// This file is part of the PrivMX Platform (https://privmx.dev).
+// This software is Licensed under the MIT License.
+//
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+#include "jniCache.h"
+
+#define MODEL_PACKAGE "com/simplito/java/privmx_endpoint/model/"
+#define EVENTS_PACKAGE "com/simplito/java/privmx_endpoint/model/events/"
+#define MODULES_PACKAGE "com/simplito/java/privmx_endpoint/modules/"
+
+namespace privmx {
+    namespace wrapper {
+        namespace jni {
+            namespace {
+                JniCache jniCache;
+
+                jclass globalClass(JNIEnv *env, const char *name) {
+                    jclass localCls = env->FindClass(name);
+                    if (localCls == nullptr) return nullptr;
+                    auto globalCls = (jclass) env->NewGlobalRef(localCls);
+                    env->DeleteLocalRef(localCls);
+                    return globalCls;
+                }
+
+                bool classRef(JNIEnv *env, ClassRef &ref, const char *name, const char *initSig) {
+                    ref.cls = globalClass(env, name);
+                    if (ref.cls == nullptr) return false;
+                    ref.init = env->GetMethodID(ref.cls, "<init>", initSig);
+                    return ref.init != nullptr;
+                }
+
+                jfieldID field(JNIEnv *env, const char *className, const char *fieldName,
+                               const char *sig) {
+                    jclass localCls = env->FindClass(className);
+                    if (localCls == nullptr) return nullptr;
+                    jfieldID fieldID = env->GetFieldID(localCls, fieldName, sig);
+                    env->DeleteLocalRef(localCls);
+                    return fieldID;
+                }
+
+                jfieldID handleField(JNIEnv *env, const char *className, const char *fieldName) {
+                    return field(env, className, fieldName, "J");
+                }
+
+                jfieldID stringField(JNIEnv *env, jclass cls, const char *fieldName) {
+                    return env->GetFieldID(cls, fieldName, "Ljava/lang/String;");
+                }
+
+                void releaseClass(JNIEnv *env, jclass &cls) {
+                    if (cls != nullptr) env->DeleteGlobalRef(cls);
+                    cls = nullptr;
+                }
+            }
+
+            const JniCache &cache() {
+                return jniCache;
+            }
+
+            bool initCache(JNIEnv *env) {
+                JniCache &c = jniCache;
+
+                // java.lang
+                if (!classRef(env, c.javaLong, "java/lang/Long", "(J)V")) return false;
+                c.javaLongValue = env->GetMethodID(c.javaLong.cls, "longValue", "()J");
+                if (!classRef(env, c.javaBoolean, "java/lang/Boolean", "(Z)V")) return false;
+                c.javaBooleanValue = env->GetMethodID(c.javaBoolean.cls, "booleanValue", "()Z");
+                if (!classRef(env, c.javaInteger, "java/lang/Integer", "(I)V")) return false;
+                c.illegalStateException = globalClass(env, "java/lang/IllegalStateException");
+                c.illegalArgumentException = globalClass(env, "java/lang/IllegalArgumentException");
+                c.nullPointerException = globalClass(env, "java/lang/NullPointerException");
+
+                // java.util
+                c.list = globalClass(env, "java/util/List");
+                if (c.list == nullptr) return false;
+                c.listToArray = env->GetMethodID(c.list, "toArray", "()[Ljava/lang/Object;");
+                if (!classRef(env, c.arrayList, "java/util/ArrayList", "()V")) return false;
+                c.arrayListInitCapacity = env->GetMethodID(c.arrayList.cls, "<init>", "(I)V");
+                c.arrayListAdd = env->GetMethodID(c.arrayList.cls, "add", "(Ljava/lang/Object;)Z");
+
+                // exceptions
+                if (!classRef(env, c.privmxException,
+                              MODEL_PACKAGE "exceptions/PrivmxException",
+                              "(Ljava/lang/String;Ljava/lang/String;Ljava/lang/String;I)V"))
+                    return false;
+                c.nativeException = globalClass(env, MODEL_PACKAGE "exceptions/NativeException");
+
+                // model
+                if (!classRef(env, c.pagingList, MODEL_PACKAGE "PagingList",
+                              "(Ljava/lang/Long;Ljava/util/List;)V"))
+                    return false;
+                if (!classRef(env, c.event, MODEL_PACKAGE "Event", "()V")) return false;
+                c.eventType = env->GetFieldID(c.event.cls, "type", "Ljava/lang/String;");
+                c.eventChannel = env->GetFieldID(c.event.cls, "channel", "Ljava/lang/String;");
+                c.eventConnectionId = env->GetFieldID(c.event.cls, "connectionId",
+                                                      "Ljava/lang/Long;");
+                c.eventData = env->GetFieldID(c.event.cls, "data", "Ljava/lang/Object;");
+                if (!classRef(env, c.itemPolicy, MODEL_PACKAGE "ItemPolicy",
+                              "("
+                              "Ljava/lang/String;" // get
+                              "Ljava/lang/String;" // listMy
+                              "Ljava/lang/String;" // listAll
+                              "Ljava/lang/String;" // create
+                              "Ljava/lang/String;" // update
+                              "Ljava/lang/String;" // delete
+                              ")V"))
+                    return false;
+                c.itemPolicyGet = stringField(env, c.itemPolicy.cls, "get");
+                c.itemPolicyListMy = stringField(env, c.itemPolicy.cls, "listMy");
+                c.itemPolicyListAll = stringField(env, c.itemPolicy.cls, "listAll");
+                c.itemPolicyCreate = stringField(env, c.itemPolicy.cls, "create");
+                c.itemPolicyUpdate = stringField(env, c.itemPolicy.cls, "update");
+                c.itemPolicyDelete = stringField(env, c.itemPolicy.cls, "delete");
+                if (!classRef(env, c.containerPolicyWithoutItem,
+                              MODEL_PACKAGE "ContainerPolicyWithoutItem",
+                              "("
+                              "Ljava/lang/String;" // get
+                              "Ljava/lang/String;" // update
+                              "Ljava/lang/String;" // delete
+                              "Ljava/lang/String;" // updatePolicy
+                              "Ljava/lang/String;" // updaterCanBeRemovedFromManagers
+                              "Ljava/lang/String;" // ownerCanBeRemovedFromManagers
+                              ")V"))
+                    return false;
+                c.containerPolicyWithoutItemGet = stringField(env, c.containerPolicyWithoutItem.cls, "get");
+                c.containerPolicyWithoutItemUpdate = stringField(env, c.containerPolicyWithoutItem.cls,
+                                                                 "update");
+                c.containerPolicyWithoutItemDelete = stringField(env, c.containerPolicyWithoutItem.cls,
+                                                                 "delete");
+                c.containerPolicyWithoutItemUpdatePolicy = stringField(
+                        env, c.containerPolicyWithoutItem.cls, "updatePolicy");
+                c.containerPolicyWithoutItemUpdaterCanBeRemovedFromManagers = stringField(
+                        env, c.containerPolicyWithoutItem.cls, "updaterCanBeRemovedFromManagers");
+                c.containerPolicyWithoutItemOwnerCanBeRemovedFromManagers = stringField(
+                        env, c.containerPolicyWithoutItem.cls, "ownerCanBeRemovedFromManagers");
+                if (!classRef(env, c.containerPolicy, MODEL_PACKAGE "ContainerPolicy",
+                              "("
+                              "Ljava/lang/String;" // get
+                              "Ljava/lang/String;" // update
+                              "Ljava/lang/String;" // delete
+                              "Ljava/lang/String;" // updatePolicy
+                              "Ljava/lang/String;" // updaterCanBeRemovedFromManagers
+                              "Ljava/lang/String;" // ownerCanBeRemovedFromManagers
+                              "L" MODEL_PACKAGE "ItemPolicy;" // item
+                              ")V"))
+                    return false;
+                c.containerPolicyGet = stringField(env, c.containerPolicy.cls, "get");
+                c.containerPolicyUpdate = stringField(env, c.containerPolicy.cls, "update");
+                c.containerPolicyDelete = stringField(env, c.containerPolicy.cls, "delete");
+                c.containerPolicyUpdatePolicy = stringField(env, c.containerPolicy.cls, "updatePolicy");
+                c.containerPolicyUpdaterCanBeRemovedFromManagers = stringField(
+                        env, c.containerPolicy.cls, "updaterCanBeRemovedFromManagers");
+                c.containerPolicyOwnerCanBeRemovedFromManagers = stringField(
+                        env, c.containerPolicy.cls, "ownerCanBeRemovedFromManagers");
+                c.containerPolicyItem = env->GetFieldID(c.containerPolicy.cls, "item",
+                                                        "L" MODEL_PACKAGE "ItemPolicy;");
+                c.pkiVerificationOptionsBridgePubKey = field(
+                        env, MODEL_PACKAGE "PKIVerificationOptions", "bridgePubKey",
+                        "Ljava/lang/String;");
+                c.pkiVerificationOptionsBridgeInstanceId = field(
+                        env, MODEL_PACKAGE "PKIVerificationOptions", "bridgeInstanceId",
+                        "Ljava/lang/String;");
+                if (!classRef(env, c.context, MODEL_PACKAGE "Context",
+                              "(Ljava/lang/String;Ljava/lang/String;)V"))
+                    return false;
+                if (!classRef(env, c.userWithPubKey, MODEL_PACKAGE "UserWithPubKey",
+                              "(Ljava/lang/String;Ljava/lang/String;)V"))
+                    return false;
+                c.userWithPubKeyUserId = env->GetFieldID(c.userWithPubKey.cls, "userId",
+                                                         "Ljava/lang/String;");
+                c.userWithPubKeyPubKey = env->GetFieldID(c.userWithPubKey.cls, "pubKey",
+                                                         "Ljava/lang/String;");
+                if (!classRef(env, c.userInfo, MODEL_PACKAGE "UserInfo",
+                              "("
+                              "L" MODEL_PACKAGE "UserWithPubKey;" // userWithPubKey
+                              "Z"
+                              ")V"))
+                    return false;
+                if (!classRef(env, c.bridgeIdentity, MODEL_PACKAGE "BridgeIdentity",
+                              "("
+                              "Ljava/lang/String;"
+                              "Ljava/lang/String;"
+                              "Ljava/lang/String;"
+                              ")V"))
+                    return false;
+                if (!classRef(env, c.verificationRequest, MODEL_PACKAGE "VerificationRequest",
+                              "("
+                              "Ljava/lang/String;"
+                              "Ljava/lang/String;"
+                              "Ljava/lang/String;"
+                              "Ljava/lang/Long;"
+                              "L" MODEL_PACKAGE "BridgeIdentity;"
+                              ")V"))
+                    return false;
+                if (!classRef(env, c.bip39, MODEL_PACKAGE "BIP39",
+                              "("
+                              "Ljava/lang/String;"                    //mnemonic
+                              "L" MODULES_PACKAGE "crypto/ExtKey;"    //Ecc Key
+                              "[B"                                    // BIP-39 entropy
+                              ")V"))
+                    return false;
+                if (!classRef(env, c.thread, MODEL_PACKAGE "Thread",
+                              "("
+                              "Ljava/lang/String;"
+                              "Ljava/lang/String;"
+                              "Ljava/lang/Long;"
+                              "Ljava/lang/String;"
+                              "Ljava/lang/Long;"
+                              "Ljava/lang/String;"
+                              "Ljava/util/List;"
+                              "Ljava/util/List;"
+                              "Ljava/lang/Long;"
+                              "Ljava/lang/Long;"
+                              "[B"
+                              "[B"
+                              "L" MODEL_PACKAGE "ContainerPolicy;"
+                              "Ljava/lang/Long;"
+                              "Ljava/lang/Long;"
+                              "Ljava/lang/Long;"
+                              ")V"))
+                    return false;
+                if (!classRef(env, c.serverMessageInfo, MODEL_PACKAGE "ServerMessageInfo",
+                              "(Ljava/lang/String;Ljava/lang/String;Ljava/lang/Long;Ljava/lang/String;)V"))
+                    return false;
+                if (!classRef(env, c.message, MODEL_PACKAGE "Message",
+                              "(L" MODEL_PACKAGE "ServerMessageInfo;"
+                              "[B"
+                              "[B"
+                              "[B"
+                              "Ljava/lang/String;"
+                              "Ljava/lang/Long;"
+                              "Ljava/lang/Long;"
+                              ")V"))
+                    return false;
+                if (!classRef(env, c.lazyMessage, MODEL_PACKAGE "LazyMessage",
+                              "(L" MODEL_PACKAGE "ServerMessageInfo;"
+                              "Ljava/lang/String;"
+                              "Ljava/lang/Long;"
+                              "Ljava/lang/Long;"
+                              "J"
+                              ")V"))
+                    return false;
+                if (!classRef(env, c.store, MODEL_PACKAGE "Store",
+                              "("
+                              "Ljava/lang/String;"  //storeId
+                              "Ljava/lang/String;"  //contextId
+                              "Ljava/lang/Long;"  //createDate
+                              "Ljava/lang/String;"  //creator
+                              "Ljava/lang/Long;"  //lastModificationDate
+                              "Ljava/lang/Long;"  //lastFileDate
+                              "Ljava/lang/String;"  //lastModifier
+                              "Ljava/util/List;"  //users
+                              "Ljava/util/List;"  //managers
+                              "Ljava/lang/Long;"  //version
+                              "[B" //publicMeta
+                              "[B" //privateMeta
+                              "L" MODEL_PACKAGE "ContainerPolicy;" //policy
+                              "Ljava/lang/Long;"  //filesCount
+                              "Ljava/lang/Long;"  //statusCode
+                              "Ljava/lang/Long;"  //schemaVersion
+                              ")V"))
+                    return false;
+                if (!classRef(env, c.inbox, MODEL_PACKAGE "Inbox",
+                              "("
+                              "Ljava/lang/String;" //inboxId
+                              "Ljava/lang/String;" //contextId
+                              "Ljava/lang/Long;" //createDate
+                              "Ljava/lang/String;" //creator
+                              "Ljava/lang/Long;" //lastModificationDate
+                              "Ljava/lang/String;" //lastModifier
+                              "Ljava/util/List;" //users
+                              "Ljava/util/List;" //managers
+                              "Ljava/lang/Long;" //version
+                              "[B" //publicMeta
+                              "[B" //privateMeta
+                              "L" MODEL_PACKAGE "FilesConfig;" //filesConfig
+                              "L" MODEL_PACKAGE "ContainerPolicyWithoutItem;" //policy
+                              "Ljava/lang/Long;" //statusCode
+                              "Ljava/lang/Long;" //schemaVersion
+                              ")V"))
+                    return false;
+                if (!classRef(env, c.inboxEntry, MODEL_PACKAGE "InboxEntry",
+                              "("
+                              "Ljava/lang/String;" //entryId
+                              "Ljava/lang/String;" //inboxId
+                              "[B" //data
+                              "Ljava/util/List;" //files
+                              "Ljava/lang/String;" //authorPubKey
+                              "Ljava/lang/Long;" // createDate
+                              "Ljava/lang/Long;" // statusCode
+                              "Ljava/lang/Long;" // schemaVersion
+                              ")V"))
+                    return false;
+                if (!classRef(env, c.inboxPublicView, MODEL_PACKAGE "InboxPublicView",
+                              "("
+                              "Ljava/lang/String;"
+                              "Ljava/lang/Long;"
+                              "[B"
+                              ")V"))
+                    return false;
+                if (!classRef(env, c.filesConfig, MODEL_PACKAGE "FilesConfig",
+                              "("
+                              "Ljava/lang/Long;"
+                              "Ljava/lang/Long;"
+                              "Ljava/lang/Long;"
+                              "Ljava/lang/Long;"
+                              ")V"))
+                    return false;
+                c.filesConfigMinCount = env->GetFieldID(c.filesConfig.cls, "minCount",
+                                                        "Ljava/lang/Long;");
+                c.filesConfigMaxCount = env->GetFieldID(c.filesConfig.cls, "maxCount",
+                                                        "Ljava/lang/Long;");
+                c.filesConfigMaxFileSize = env->GetFieldID(c.filesConfig.cls, "maxFileSize",
+                                                           "Ljava/lang/Long;");
+                c.filesConfigMaxWholeUploadSize = env->GetFieldID(c.filesConfig.cls,
+                                                                  "maxWholeUploadSize",
+                                                                  "Ljava/lang/Long;");
+                c.eventFilterTypes = field(env, MODEL_PACKAGE "EventFilter", "types",
+                                           "Ljava/util/List;");
+                c.eventFilterChannels = field(env, MODEL_PACKAGE "EventFilter", "channels",
+                                              "Ljava/util/List;");
+                c.eventFilterConnectionIds = field(env, MODEL_PACKAGE "EventFilter", "connectionIds",
+                                                   "Ljava/util/List;");
+                if (!classRef(env, c.serverFileInfo, MODEL_PACKAGE "ServerFileInfo",
+                              "(Ljava/lang/String;Ljava/lang/String;Ljava/lang/Long;Ljava/lang/String;)V"))
+                    return false;
+                if (!classRef(env, c.file, MODEL_PACKAGE "File",
+                              "("
+                              "L" MODEL_PACKAGE "ServerFileInfo;"
+                              "[B"
+                              "[B"
+                              "Ljava/lang/Long;"
+                              "Ljava/lang/String;"
+                              "Ljava/lang/Long;"
+                              "Ljava/lang/Long;"
+                              ")V"))
+                    return false;
+                if (!classRef(env, c.lazyFile, MODEL_PACKAGE "LazyFile",
+                              "("
+                              "L" MODEL_PACKAGE "ServerFileInfo;"
+                              "Ljava/lang/Long;"
+                              "Ljava/lang/String;"
+                              "Ljava/lang/Long;"
+                              "Ljava/lang/Long;"
+                              "J"
+                              ")V"))
+                    return false;
+
+                // events
+                if (!classRef(env, c.storeDeletedEventData,
+                              EVENTS_PACKAGE "StoreDeletedEventData",
+                              "(Ljava/lang/String;)V"))
+                    return false;
+                if (!classRef(env, c.storeFileDeletedEventData,
+                              EVENTS_PACKAGE "StoreFileDeletedEventData",
+                              "(Ljava/lang/String;Ljava/lang/String;Ljava/lang/String;)V"))
+                    return false;
+                if (!classRef(env, c.storeStatsChangedEventData,
+                              EVENTS_PACKAGE "StoreStatsChangedEventData",
+                              "(Ljava/lang/String;Ljava/lang/String;Ljava/lang/Long;Ljava/lang/Long;)V"))
+                    return false;
+                if (!classRef(env, c.threadDeletedEventData,
+                              EVENTS_PACKAGE "ThreadDeletedEventData",
+                              "(Ljava/lang/String;)V"))
+                    return false;
+                if (!classRef(env, c.threadDeletedMessageEventData,
+                              EVENTS_PACKAGE "ThreadDeletedMessageEventData",
+                              "(Ljava/lang/String;Ljava/lang/String;)V"))
+                    return false;
+                if (!classRef(env, c.threadStatsEventData,
+                              EVENTS_PACKAGE "ThreadStatsEventData",
+                              "(Ljava/lang/String;Ljava/lang/Long;Ljava/lang/Long;)V"))
+                    return false;
+                if (!classRef(env, c.inboxDeletedEventData,
+                              EVENTS_PACKAGE "InboxDeletedEventData",
+                              "(Ljava/lang/String;)V"))
+                    return false;
+                if (!classRef(env, c.inboxEntryDeletedEventData,
+                              EVENTS_PACKAGE "InboxEntryDeletedEventData",
+                              "(Ljava/lang/String;Ljava/lang/String;)V"))
+                    return false;
+                if (!classRef(env, c.contextCustomEventData,
+                              EVENTS_PACKAGE "ContextCustomEventData",
+                              "(Ljava/lang/String;Ljava/lang/String;[B)V"))
+                    return false;
+
+                // modules
+                if (!classRef(env, c.connection, MODULES_PACKAGE "core/Connection", "(J)V"))
+                    return false;
+                c.connectionHandle = env->GetFieldID(c.connection.cls, "api", "J");
+                c.storeApiHandle = handleField(env, MODULES_PACKAGE "store/StoreApi", "api");
+                c.threadApiHandle = handleField(env, MODULES_PACKAGE "thread/ThreadApi", "api");
+                c.inboxApiHandle = handleField(env, MODULES_PACKAGE "inbox/InboxApi", "api");
+                c.eventApiHandle = handleField(env, MODULES_PACKAGE "event/EventApi", "api");
+                c.cryptoApiHandle = handleField(env, MODULES_PACKAGE "crypto/CryptoApi", "api");
+                if (!classRef(env, c.extKey, MODULES_PACKAGE "crypto/ExtKey", "(J)V"))
+                    return false;
+                c.extKeyHandle = env->GetFieldID(c.extKey.cls, "key", "J");
+                c.userVerifierInterface = globalClass(env,
+                                                      MODULES_PACKAGE "core/UserVerifierInterface");
+                if (c.userVerifierInterface == nullptr) return false;
+                c.userVerifierInterfaceVerify = env->GetMethodID(
+                        c.userVerifierInterface,
+                        "verify",
+                        "(Ljava/util/List;)Ljava/util/List;");
+
+                return !env->ExceptionCheck();
+            }
+
+            void releaseCache(JNIEnv *env) {
+                JniCache &c = jniCache;
+                ClassRef *classRefs[] = {
+                        &c.javaLong, &c.javaBoolean, &c.javaInteger, &c.arrayList,
+                        &c.privmxException, &c.pagingList, &c.event,
+                        &c.itemPolicy, &c.containerPolicyWithoutItem, &c.containerPolicy,
+                        &c.context, &c.userWithPubKey, &c.userInfo, &c.bridgeIdentity,
+                        &c.verificationRequest, &c.bip39, &c.thread, &c.serverMessageInfo,
+                        &c.message, &c.lazyMessage, &c.store, &c.inbox, &c.inboxEntry, &c.inboxPublicView,
+                        &c.filesConfig, &c.serverFileInfo, &c.file, &c.lazyFile,
+                        &c.storeDeletedEventData, &c.storeFileDeletedEventData,
+                        &c.storeStatsChangedEventData, &c.threadDeletedEventData,
+                        &c.threadDeletedMessageEventData, &c.threadStatsEventData,
+                        &c.inboxDeletedEventData, &c.inboxEntryDeletedEventData,
+                        &c.contextCustomEventData, &c.connection, &c.extKey
+                };
+                for (ClassRef *ref: classRefs) {
+                    releaseClass(env, ref->cls);
+                    ref->init = nullptr;
+                }
+                releaseClass(env, c.illegalStateException);
+                releaseClass(env, c.illegalArgumentException);
+                releaseClass(env, c.nullPointerException);
+                releaseClass(env, c.list);
+                releaseClass(env, c.nativeException);
+                releaseClass(env, c.userVerifierInterface);
+            }
+        } // jni
+    } // wrapper
+} // privmx
+
+extern "C"
+JNIEXPORT jint JNICALL
+JNI_OnLoad(JavaVM *vm, void *reserved) {
+    JNIEnv *env = nullptr;
+    if (vm->GetEnv((void **) &env, JNI_VERSION_1_6) != JNI_OK) {
+        return JNI_ERR;
+    }
+    if (!privmx::wrapper::jni::initCache(env)) {
+        return JNI_ERR;
+    }
+    return JNI_VERSION_1_6;
+}
+
+extern "C"
+JNIEXPORT void JNICALL
+JNI_OnUnload(JavaVM *vm, void *reserved) {
+    JNIEnv *env = nullptr;
+    if (vm->GetEnv((void **) &env, JNI_VERSION_1_6) != JNI_OK) {
+        return;
+    }
+    privmx::wrapper::jni::releaseCache(env);
+}
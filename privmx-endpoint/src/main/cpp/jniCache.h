@@ -0,0 +1,163 @@
+//
+// PrivMX Endpoint Java.
+// Copyright © 2025 Simplito sp. z o.o.
+//
+// This file is part of the PrivMX Platform (https://privmx.dev).
+// This software is Licensed under the MIT License.
+//
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+#ifndef PRIVMXENDPOINT_JNICACHE_H
+#define PRIVMXENDPOINT_JNICACHE_H
+
+#include "jni.h"
+
+namespace privmx {
+    namespace wrapper {
+        namespace jni {
+            /**
+             * Global class reference with its most used constructor.
+             */
+            struct ClassRef {
+                jclass cls = nullptr;
+                jmethodID init = nullptr;
+            };
+
+            /**
+             * Registry of global class references, method IDs and field IDs used by the converters.
+             * It is populated once in JNI_OnLoad, so native methods never look up symbols per call.
+             */
+            struct JniCache {
+                // java.lang
+                ClassRef javaLong;
+                jmethodID javaLongValue = nullptr;
+                ClassRef javaBoolean;
+                jmethodID javaBooleanValue = nullptr;
+                ClassRef javaInteger;
+                jclass illegalStateException = nullptr;
+                jclass illegalArgumentException = nullptr;
+                jclass nullPointerException = nullptr;
+
+                // java.util
+                jclass list = nullptr;
+                jmethodID listToArray = nullptr;
+                ClassRef arrayList;
+                jmethodID arrayListInitCapacity = nullptr;
+                jmethodID arrayListAdd = nullptr;
+
+                // exceptions
+                ClassRef privmxException;
+                jclass nativeException = nullptr;
+
+                // model
+                ClassRef pagingList;
+                ClassRef event;
+                jfieldID eventType = nullptr;
+                jfieldID eventChannel = nullptr;
+                jfieldID eventConnectionId = nullptr;
+                jfieldID eventData = nullptr;
+                ClassRef itemPolicy;
+                jfieldID itemPolicyGet = nullptr;
+                jfieldID itemPolicyListMy = nullptr;
+                jfieldID itemPolicyListAll = nullptr;
+                jfieldID itemPolicyCreate = nullptr;
+                jfieldID itemPolicyUpdate = nullptr;
+                jfieldID itemPolicyDelete = nullptr;
+                ClassRef containerPolicyWithoutItem;
+                jfieldID containerPolicyWithoutItemGet = nullptr;
+                jfieldID containerPolicyWithoutItemUpdate = nullptr;
+                jfieldID containerPolicyWithoutItemDelete = nullptr;
+                jfieldID containerPolicyWithoutItemUpdatePolicy = nullptr;
+                jfieldID containerPolicyWithoutItemUpdaterCanBeRemovedFromManagers = nullptr;
+                jfieldID containerPolicyWithoutItemOwnerCanBeRemovedFromManagers = nullptr;
+                ClassRef containerPolicy;
+                jfieldID containerPolicyGet = nullptr;
+                jfieldID containerPolicyUpdate = nullptr;
+                jfieldID containerPolicyDelete = nullptr;
+                jfieldID containerPolicyUpdatePolicy = nullptr;
+                jfieldID containerPolicyUpdaterCanBeRemovedFromManagers = nullptr;
+                jfieldID containerPolicyOwnerCanBeRemovedFromManagers = nullptr;
+                jfieldID containerPolicyItem = nullptr;
+                jfieldID pkiVerificationOptionsBridgePubKey = nullptr;
+                jfieldID pkiVerificationOptionsBridgeInstanceId = nullptr;
+                ClassRef context;
+                ClassRef userWithPubKey;
+                jfieldID userWithPubKeyUserId = nullptr;
+                jfieldID userWithPubKeyPubKey = nullptr;
+                ClassRef userInfo;
+                ClassRef bridgeIdentity;
+                ClassRef verificationRequest;
+                ClassRef bip39;
+                ClassRef thread;
+                ClassRef serverMessageInfo;
+                ClassRef message;
+                ClassRef lazyMessage;
+                ClassRef store;
+                ClassRef inbox;
+                ClassRef inboxEntry;
+                ClassRef inboxPublicView;
+                ClassRef filesConfig;
+                jfieldID filesConfigMinCount = nullptr;
+                jfieldID filesConfigMaxCount = nullptr;
+                jfieldID filesConfigMaxFileSize = nullptr;
+                jfieldID filesConfigMaxWholeUploadSize = nullptr;
+                jfieldID eventFilterTypes = nullptr;
+                jfieldID eventFilterChannels = nullptr;
+                jfieldID eventFilterConnectionIds = nullptr;
+                ClassRef serverFileInfo;
+                ClassRef file;
+                ClassRef lazyFile;
+
+                // events
+                ClassRef storeDeletedEventData;
+                ClassRef storeFileDeletedEventData;
+                ClassRef storeStatsChangedEventData;
+                ClassRef threadDeletedEventData;
+                ClassRef threadDeletedMessageEventData;
+                ClassRef threadStatsEventData;
+                ClassRef inboxDeletedEventData;
+                ClassRef inboxEntryDeletedEventData;
+                ClassRef contextCustomEventData;
+
+                // modules
+                ClassRef connection;
+                jfieldID connectionHandle = nullptr;
+                jfieldID storeApiHandle = nullptr;
+                jfieldID threadApiHandle = nullptr;
+                jfieldID inboxApiHandle = nullptr;
+                jfieldID eventApiHandle = nullptr;
+                jfieldID cryptoApiHandle = nullptr;
+                ClassRef extKey;
+                jfieldID extKeyHandle = nullptr;
+                jclass userVerifierInterface = nullptr;
+                jmethodID userVerifierInterfaceVerify = nullptr;
+            };
+
+            /**
+             * Returns registry populated in JNI_OnLoad.
+             *
+             * @return cached JNI references
+             */
+            const JniCache &cache();
+
+            /**
+             * Resolves all cached classes, methods and fields.
+             *
+             * @param env JNIEnv of the thread loading the library
+             * @return {@code true} if every reference was resolved
+             */
+            bool initCache(JNIEnv *env);
+
+            /**
+             * Deletes global references created by {@link initCache}.
+             *
+             * @param env JNIEnv of the thread unloading the library
+             */
+            void releaseCache(JNIEnv *env);
+        } // jni
+    } // wrapper
+} // privmx
+
+#endif //PRIVMXENDPOINT_JNICACHE_H
@@ -10,6 +10,8 @@
 //
 
 #include "model_native_initializers.h"
+#include "jniCache.h"
+#include "nativePayload.h"
 
 namespace privmx {
     namespace wrapper {
@@ -20,20 +22,8 @@ namespace privmx {
                 JniContextUtils &ctx,
                 privmx::endpoint::core::ItemPolicy itemPolicy
         ) {
-            jclass itemPolicyCls = ctx->FindClass(
-                    "com/simplito/java/privmx_endpoint/model/ItemPolicy");
-            jmethodID initItemPolicyMID = ctx->GetMethodID(
-                    itemPolicyCls,
-                    "<init>",
-                    "("
-                    "Ljava/lang/String;" // get
-                    "Ljava/lang/String;" // listMy
-                    "Ljava/lang/String;" // listAll
-                    "Ljava/lang/String;" // create
-                    "Ljava/lang/String;" // update
-                    "Ljava/lang/String;" // delete
-                    ")V"
-            );
+            jclass itemPolicyCls = jni::cache().itemPolicy.cls;
+            jmethodID initItemPolicyMID = jni::cache().itemPolicy.init;
             jstring get = nullptr;
             jstring listMy = nullptr;
             jstring listAll = nullptr;
@@ -67,20 +57,8 @@ namespace privmx {
                 JniContextUtils &ctx,
                 privmx::endpoint::core::ContainerPolicyWithoutItem containerPolicyWithoutItem
         ) {
-            jclass containerPolicyWithoutItemCls = ctx->FindClass(
-                    "com/simplito/java/privmx_endpoint/model/ContainerPolicyWithoutItem");
-            jmethodID initContainerPolicyWithoutItemMID = ctx->GetMethodID(
-                    containerPolicyWithoutItemCls,
-                    "<init>",
-                    "("
-                    "Ljava/lang/String;" // get
-                    "Ljava/lang/String;" // update
-                    "Ljava/lang/String;" // delete
-                    "Ljava/lang/String;" // updatePolicy
-                    "Ljava/lang/String;" // updaterCanBeRemovedFromManagers
-                    "Ljava/lang/String;" // ownerCanBeRemovedFromManagers
-                    ")V"
-            );
+            jclass containerPolicyWithoutItemCls = jni::cache().containerPolicyWithoutItem.cls;
+            jmethodID initContainerPolicyWithoutItemMID = jni::cache().containerPolicyWithoutItem.init;
             jstring get = nullptr;
             jstring update = nullptr;
             jstring delete_ = nullptr;
@@ -124,21 +102,8 @@ namespace privmx {
                 JniContextUtils &ctx,
                 privmx::endpoint::core::ContainerPolicy containerPolicy
         ) {
-            jclass containerPolicyCls = ctx->FindClass(
-                    "com/simplito/java/privmx_endpoint/model/ContainerPolicy");
-            jmethodID initContainerPolicyMID = ctx->GetMethodID(
-                    containerPolicyCls,
-                    "<init>",
-                    "("
-                    "Ljava/lang/String;" // get
-                    "Ljava/lang/String;" // update
-                    "Ljava/lang/String;" // delete
-                    "Ljava/lang/String;" // updatePolicy
-                    "Ljava/lang/String;" // updaterCanBeRemovedFromManagers
-                    "Ljava/lang/String;" // ownerCanBeRemovedFromManagers
-                    "Lcom/simplito/java/privmx_endpoint/model/ItemPolicy;" // item
-                    ")V"
-            );
+            jclass containerPolicyCls = jni::cache().containerPolicy.cls;
+            jmethodID initContainerPolicyMID = jni::cache().containerPolicy.init;
             jstring get = nullptr;
             jstring update = nullptr;
             jstring delete_ = nullptr;
@@ -188,13 +153,8 @@ namespace privmx {
                 JniContextUtils &ctx,
                 privmx::endpoint::core::Context context_c
         ) {
-            jclass contextCls = ctx->FindClass(
-                    "com/simplito/java/privmx_endpoint/model/Context");
-            jmethodID initThreadDataMID = ctx->GetMethodID(
-                    contextCls,
-                    "<init>",
-                    "(Ljava/lang/String;Ljava/lang/String;)V"
-            );
+            jclass contextCls = jni::cache().context.cls;
+            jmethodID initThreadDataMID = jni::cache().context.init;
             return ctx->NewObject(
                     contextCls,
                     initThreadDataMID,
@@ -208,13 +168,8 @@ namespace privmx {
                 JniContextUtils &ctx,
                 privmx::endpoint::core::UserWithPubKey userWithPubKey
         ) {
-            jclass userCls = ctx->FindClass(
-                    "com/simplito/java/privmx_endpoint/model/UserWithPubKey");
-            jmethodID initUserMID = ctx->GetMethodID(
-                    userCls,
-                    "<init>",
-                    "(Ljava/lang/String;Ljava/lang/String;)V"
-            );
+            jclass userCls = jni::cache().userWithPubKey.cls;
+            jmethodID initUserMID = jni::cache().userWithPubKey.init;
             return ctx->NewObject(
                     userCls,
                     initUserMID,
@@ -228,16 +183,8 @@ namespace privmx {
                 JniContextUtils &ctx,
                 privmx::endpoint::core::UserInfo userInfo
         ) {
-            jclass userInfoCls = ctx->FindClass(
-                    "com/simplito/java/privmx_endpoint/model/UserInfo");
-            jmethodID initUserInfoMID = ctx->GetMethodID(
-                    userInfoCls,
-                    "<init>",
-                    "("
-                    "Lcom/simplito/java/privmx_endpoint/model/UserWithPubKey;" // userWithPubKey
-                    "Z"
-                    ")V"
-            );
+            jclass userInfoCls = jni::cache().userInfo.cls;
+            jmethodID initUserInfoMID = jni::cache().userInfo.init;
             return ctx->NewObject(
                     userInfoCls,
                     initUserInfoMID,
@@ -250,17 +197,8 @@ namespace privmx {
                 JniContextUtils &ctx,
                 privmx::endpoint::core::BridgeIdentity bridgeIdentity_c
         ) {
-            jclass bridgeIdentityCls = ctx.findClass(
-                    "com/simplito/java/privmx_endpoint/model/BridgeIdentity");
-            jmethodID initBridgeIdentityMID = ctx->GetMethodID(
-                    bridgeIdentityCls,
-                    "<init>",
-                    "("
-                    "Ljava/lang/String;"
-                    "Ljava/lang/String;"
-                    "Ljava/lang/String;"
-                    ")V"
-            );
+            jclass bridgeIdentityCls = jni::cache().bridgeIdentity.cls;
+            jmethodID initBridgeIdentityMID = jni::cache().bridgeIdentity.init;
 
             jstring pubKey_c = nullptr;
             if (bridgeIdentity_c.pubKey.has_value()) {
@@ -285,19 +223,8 @@ namespace privmx {
                 JniContextUtils &ctx,
                 privmx::endpoint::core::VerificationRequest verificationRequest_c
         ) {
-            jclass verificationRequestCls = ctx.findClass(
-                    "com/simplito/java/privmx_endpoint/model/VerificationRequest");
-            jmethodID initVerificationRequestMID = ctx->GetMethodID(
-                    verificationRequestCls,
-                    "<init>",
-                    "("
-                    "Ljava/lang/String;"
-                    "Ljava/lang/String;"
-                    "Ljava/lang/String;"
-                    "Ljava/lang/Long;"
-                    "Lcom/simplito/java/privmx_endpoint/model/BridgeIdentity;"
-                    ")V"
-            );
+            jclass verificationRequestCls = jni::cache().verificationRequest.cls;
+            jmethodID initVerificationRequestMID = jni::cache().verificationRequest.init;
 
             jobject bridgeIdentity = nullptr;
             if (verificationRequest_c.bridgeIdentity.has_value()) {
@@ -318,30 +245,19 @@ namespace privmx {
 
         //Crypto
         jobject extKey2Java(JniContextUtils &ctx, privmx::endpoint::crypto::ExtKey extKey_c) {
-            jclass ExtKeyCls = ctx->FindClass(
-                    "com/simplito/java/privmx_endpoint/modules/crypto/ExtKey");
-            jmethodID initExtKeyMID = ctx->GetMethodID(
-                    ExtKeyCls, "<init>", "(Ljava/lang/Long;)V");
+            jclass ExtKeyCls = jni::cache().extKey.cls;
+            jmethodID initExtKeyMID = jni::cache().extKey.init;
 
             auto *key = new privmx::endpoint::crypto::ExtKey(extKey_c);
             return ctx->NewObject(
                     ExtKeyCls,
                     initExtKeyMID,
-                    ctx.long2jLong((jlong) key));
+                    (jlong) key);
         }
 
         jobject BIP392Java(JniContextUtils &ctx, privmx::endpoint::crypto::BIP39_t BIP39_c) {
-            jclass BIP39Cls = ctx->FindClass(
-                    "com/simplito/java/privmx_endpoint/model/BIP39");
-            jmethodID initBIP39MID = ctx->GetMethodID(
-                    BIP39Cls,
-                    "<init>",
-                    "("
-                    "Ljava/lang/String;"                                            //mnemonic
-                    "Lcom/simplito/java/privmx_endpoint/modules/crypto/ExtKey;"     //Ecc Key
-                    "[B"                                                            // BIP-39 entropy
-                    ")V"
-            );
+            jclass BIP39Cls = jni::cache().bip39.cls;
+            jmethodID initBIP39MID = jni::cache().bip39.init;
             jbyteArray entropy = ctx->NewByteArray(BIP39_c.entropy.size());
             ctx->SetByteArrayRegion(entropy, 0, BIP39_c.entropy.size(),
                                     (jbyte *) BIP39_c.entropy.data());
@@ -357,40 +273,11 @@ namespace privmx {
 
         //Threads
         jobject thread2Java(JniContextUtils &ctx, privmx::endpoint::thread::Thread thread_c) {
-            jclass threadCls = ctx->FindClass(
-                    "com/simplito/java/privmx_endpoint/model/Thread");
-            jmethodID initThreadMID = ctx->GetMethodID(
-                    threadCls,
-                    "<init>",
-                    "("
-                    "Ljava/lang/String;"
-                    "Ljava/lang/String;"
-                    "Ljava/lang/Long;"
-                    "Ljava/lang/String;"
-                    "Ljava/lang/Long;"
-                    "Ljava/lang/String;"
-                    "Ljava/util/List;"
-                    "Ljava/util/List;"
-                    "Ljava/lang/Long;"
-                    "Ljava/lang/Long;"
-                    "[B"
-                    "[B"
-                    "Lcom/simplito/java/privmx_endpoint/model/ContainerPolicy;"
-                    "Ljava/lang/Long;"
-                    "Ljava/lang/Long;"
-                    "Ljava/lang/Long;"
-                    ")V"
-            );
-            jclass arrayCls = ctx->FindClass("java/util/ArrayList");
-            jmethodID initArrayMID = ctx->GetMethodID(
-                    arrayCls,
-                    "<init>",
-                    "()V");
-            jmethodID addToArrayMID = ctx->GetMethodID(
-                    arrayCls,
-                    "add",
-                    "(Ljava/lang/Object;)Z"
-            );
+            jclass threadCls = jni::cache().thread.cls;
+            jmethodID initThreadMID = jni::cache().thread.init;
+            jclass arrayCls = jni::cache().arrayList.cls;
+            jmethodID initArrayMID = jni::cache().arrayList.init;
+            jmethodID addToArrayMID = jni::cache().arrayListAdd;
             jstring threadId = ctx->NewStringUTF(thread_c.threadId.c_str());
             jstring contextId = ctx->NewStringUTF(thread_c.contextId.c_str());
             jstring creator = ctx->NewStringUTF(thread_c.creator.c_str());
@@ -438,13 +325,8 @@ namespace privmx {
         //Messages
         jobject serverMessageInfo2Java(JniContextUtils &ctx,
                                        privmx::endpoint::thread::ServerMessageInfo serverMessageInfo_c) {
-            jclass messageCls = ctx->FindClass(
-                    "com/simplito/java/privmx_endpoint/model/ServerMessageInfo");
-            jmethodID initMessageMID = ctx->GetMethodID(
-                    messageCls,
-                    "<init>",
-                    "(Ljava/lang/String;Ljava/lang/String;Ljava/lang/Long;Ljava/lang/String;)V"
-            );
+            jclass messageCls = jni::cache().serverMessageInfo.cls;
+            jmethodID initMessageMID = jni::cache().serverMessageInfo.init;
             return ctx->NewObject(
                     messageCls,
                     initMessageMID,
@@ -456,20 +338,8 @@ namespace privmx {
         }
 
         jobject message2Java(JniContextUtils &ctx, privmx::endpoint::thread::Message message_c) {
-            jclass messageCls = ctx->FindClass(
-                    "com/simplito/java/privmx_endpoint/model/Message");
-            jmethodID initMessageMID = ctx->GetMethodID(
-                    messageCls,
-                    "<init>",
-                    "(Lcom/simplito/java/privmx_endpoint/model/ServerMessageInfo;"
-                    "[B"
-                    "[B"
-                    "[B"
-                    "Ljava/lang/String;"
-                    "Ljava/lang/Long;"
-                    "Ljava/lang/Long;"
-                    ")V"
-            );
+            jclass messageCls = jni::cache().message.cls;
+            jmethodID initMessageMID = jni::cache().message.init;
 
             jbyteArray publicMeta = ctx->NewByteArray(message_c.publicMeta.size());
             jbyteArray privateMeta = ctx->NewByteArray(message_c.privateMeta.size());
@@ -496,43 +366,34 @@ namespace privmx {
             );
         }
 
+        jobject lazyMessage2Java(JniContextUtils &ctx, privmx::endpoint::thread::Message message_c) {
+            // initializer_list elements are const, so a braced list would copy the buffers
+            auto payload = new NativePayload();
+            payload->fields.reserve(3);
+            payload->fields.push_back(std::move(message_c.publicMeta));
+            payload->fields.push_back(std::move(message_c.privateMeta));
+            payload->fields.push_back(std::move(message_c.data));
+            jobject result = ctx->NewObject(
+                    jni::cache().lazyMessage.cls,
+                    jni::cache().lazyMessage.init,
+                    serverMessageInfo2Java(ctx, message_c.info),
+                    ctx->NewStringUTF(message_c.authorPubKey.c_str()),
+                    ctx.long2jLong(message_c.statusCode),
+                    ctx.long2jLong(message_c.schemaVersion),
+                    reinterpret_cast<jlong>(payload)
+            );
+            if (result == nullptr) delete payload;
+            return result;
+        }
+
         //Store
         jobject store2Java(JniContextUtils &ctx, privmx::endpoint::store::Store store_c) {
-            jclass arrayCls = ctx->FindClass("java/util/ArrayList");
-            jmethodID initArrayMID = ctx->GetMethodID(
-                    arrayCls,
-                    "<init>",
-                    "()V");
-            jmethodID addToArrayMID = ctx->GetMethodID(
-                    arrayCls,
-                    "add",
-                    "(Ljava/lang/Object;)Z"
-            );
+            jclass arrayCls = jni::cache().arrayList.cls;
+            jmethodID initArrayMID = jni::cache().arrayList.init;
+            jmethodID addToArrayMID = jni::cache().arrayListAdd;
 
-            jclass storeCls = ctx->FindClass(
-                    "com/simplito/java/privmx_endpoint/model/Store");
-            jmethodID initStoreMID = ctx->GetMethodID(
-                    storeCls,
-                    "<init>",
-                    "("
-                    "Ljava/lang/String;"  //storeId
-                    "Ljava/lang/String;"  //contextId
-                    "Ljava/lang/Long;"  //createDate
-                    "Ljava/lang/String;"  //creator
-                    "Ljava/lang/Long;"  //lastModificationDate
-                    "Ljava/lang/Long;"  //lastFileDate
-                    "Ljava/lang/String;"  //lastModifier
-                    "Ljava/util/List;"  //users
-                    "Ljava/util/List;"  //managers
-                    "Ljava/lang/Long;"  //version
-                    "[B" //publicMeta
-                    "[B" //privateMeta
-                    "Lcom/simplito/java/privmx_endpoint/model/ContainerPolicy;" //policy
-                    "Ljava/lang/Long;"  //filesCount
-                    "Ljava/lang/Long;"  //statusCode
-                    "Ljava/lang/Long;"  //schemaVersion
-                    ")V"
-            );
+            jclass storeCls = jni::cache().store.cls;
+            jmethodID initStoreMID = jni::cache().store.init;
 
             jobject users = ctx->NewObject(arrayCls, initArrayMID);
             jobject managers = ctx->NewObject(arrayCls, initArrayMID);
@@ -577,39 +438,11 @@ namespace privmx {
 
         //Inbox
         jobject inbox2Java(JniContextUtils &ctx, privmx::endpoint::inbox::Inbox inbox_c) {
-            jclass inboxCls = ctx->FindClass(
-                    "com/simplito/java/privmx_endpoint/model/Inbox");
-            jmethodID initInboxMID = ctx->GetMethodID(
-                    inboxCls,
-                    "<init>",
-                    "("
-                    "Ljava/lang/String;" //inboxId
-                    "Ljava/lang/String;" //contextId
-                    "Ljava/lang/Long;" //createDate
-                    "Ljava/lang/String;" //creator
-                    "Ljava/lang/Long;" //lastModificationDate
-                    "Ljava/lang/String;" //lastModifier
-                    "Ljava/util/List;" //users
-                    "Ljava/util/List;" //managers
-                    "Ljava/lang/Long;" //version
-                    "[B" //publicMeta
-                    "[B" //privateMeta
-                    "Lcom/simplito/java/privmx_endpoint/model/FilesConfig;" //filesConfig
-                    "Lcom/simplito/java/privmx_endpoint/model/ContainerPolicyWithoutItem;" //policy
-                    "Ljava/lang/Long;" //statusCode
-                    "Ljava/lang/Long;" //schemaVersion
-                    ")V"
-            );
-            jclass arrayCls = ctx->FindClass("java/util/ArrayList");
-            jmethodID initArrayMID = ctx->GetMethodID(
-                    arrayCls,
-                    "<init>",
-                    "()V");
-            jmethodID addToArrayMID = ctx->GetMethodID(
-                    arrayCls,
-                    "add",
-                    "(Ljava/lang/Object;)Z"
-            );
+            jclass inboxCls = jni::cache().inbox.cls;
+            jmethodID initInboxMID = jni::cache().inbox.init;
+            jclass arrayCls = jni::cache().arrayList.cls;
+            jmethodID initArrayMID = jni::cache().arrayList.init;
+            jmethodID addToArrayMID = jni::cache().arrayListAdd;
             jobject users = ctx->NewObject(arrayCls, initArrayMID);
             jobject managers = ctx->NewObject(arrayCls, initArrayMID);
             jbyteArray publicMeta = ctx->NewByteArray(inbox_c.publicMeta.size());
@@ -657,32 +490,11 @@ namespace privmx {
 
         jobject
         inboxEntry2Java(JniContextUtils &ctx, privmx::endpoint::inbox::InboxEntry inboxEntry_c) {
-            jclass inboxEntryCls = ctx->FindClass(
-                    "com/simplito/java/privmx_endpoint/model/InboxEntry");
-            jmethodID initEntryViewMID = ctx->GetMethodID(
-                    inboxEntryCls,
-                    "<init>",
-                    "("
-                    "Ljava/lang/String;" //entryId
-                    "Ljava/lang/String;" //inboxId
-                    "[B" //data
-                    "Ljava/util/List;" //files
-                    "Ljava/lang/String;" //authorPubKey
-                    "Ljava/lang/Long;" // createDate
-                    "Ljava/lang/Long;" // statusCode
-                    "Ljava/lang/Long;" // schemaVersion
-                    ")V"
-            );
-            jclass arrayCls = ctx->FindClass("java/util/ArrayList");
-            jmethodID initArrayMID = ctx->GetMethodID(
-                    arrayCls,
-                    "<init>",
-                    "()V");
-            jmethodID addToArrayMID = ctx->GetMethodID(
-                    arrayCls,
-                    "add",
-                    "(Ljava/lang/Object;)Z"
-            );
+            jclass inboxEntryCls = jni::cache().inboxEntry.cls;
+            jmethodID initEntryViewMID = jni::cache().inboxEntry.init;
+            jclass arrayCls = jni::cache().arrayList.cls;
+            jmethodID initArrayMID = jni::cache().arrayList.init;
+            jmethodID addToArrayMID = jni::cache().arrayListAdd;
             jbyteArray data = ctx->NewByteArray(inboxEntry_c.data.size());
             ctx->SetByteArrayRegion(data, 0, inboxEntry_c.data.size(),
                                     (jbyte *) inboxEntry_c.data.data());
@@ -708,17 +520,8 @@ namespace privmx {
 
         jobject inboxPublicView2Java(JniContextUtils &ctx,
                                      privmx::endpoint::inbox::InboxPublicView inboxPublicView_c) {
-            jclass inboxPublicViewCls = ctx->FindClass(
-                    "com/simplito/java/privmx_endpoint/model/InboxPublicView");
-            jmethodID initInboxPublicViewMID = ctx->GetMethodID(
-                    inboxPublicViewCls,
-                    "<init>",
-                    "("
-                    "Ljava/lang/String;"
-                    "Ljava/lang/Long;"
-                    "[B"
-                    ")V"
-            );
+            jclass inboxPublicViewCls = jni::cache().inboxPublicView.cls;
+            jmethodID initInboxPublicViewMID = jni::cache().inboxPublicView.init;
             jbyteArray publicMeta = ctx->NewByteArray(inboxPublicView_c.publicMeta.size());
             ctx->SetByteArrayRegion(publicMeta, 0, inboxPublicView_c.publicMeta.size(),
                                     (jbyte *) inboxPublicView_c.publicMeta.data());
@@ -733,18 +536,8 @@ namespace privmx {
 
         jobject
         filesConfig2Java(JniContextUtils &ctx, privmx::endpoint::inbox::FilesConfig filesConfig_c) {
-            jclass filesConfigCls = ctx->FindClass(
-                    "com/simplito/java/privmx_endpoint/model/FilesConfig");
-            jmethodID initFilesConfigMID = ctx->GetMethodID(
-                    filesConfigCls,
-                    "<init>",
-                    "("
-                    "Ljava/lang/Long;"
-                    "Ljava/lang/Long;"
-                    "Ljava/lang/Long;"
-                    "Ljava/lang/Long;"
-                    ")V"
-            );
+            jclass filesConfigCls = jni::cache().filesConfig.cls;
+            jmethodID initFilesConfigMID = jni::cache().filesConfig.init;
             return ctx->NewObject(
                     filesConfigCls,
                     initFilesConfigMID,
@@ -758,13 +551,8 @@ namespace privmx {
         //Files
         jobject serverFileInfo2Java(JniContextUtils &ctx,
                                     privmx::endpoint::store::ServerFileInfo serverFileInfo_c) {
-            jclass serverFileInfoCls = ctx->FindClass(
-                    "com/simplito/java/privmx_endpoint/model/ServerFileInfo");
-            jmethodID initServerFileInfoMID = ctx->GetMethodID(
-                    serverFileInfoCls,
-                    "<init>",
-                    "(Ljava/lang/String;Ljava/lang/String;Ljava/lang/Long;Ljava/lang/String;)V"
-            );
+            jclass serverFileInfoCls = jni::cache().serverFileInfo.cls;
+            jmethodID initServerFileInfoMID = jni::cache().serverFileInfo.init;
             return ctx->NewObject(
                     serverFileInfoCls,
                     initServerFileInfoMID,
@@ -776,21 +564,8 @@ namespace privmx {
         }
 
         jobject file2Java(JniContextUtils &ctx, privmx::endpoint::store::File file_c) {
-            jclass fileCls = ctx->FindClass(
-                    "com/simplito/java/privmx_endpoint/model/File");
-            jmethodID initFileMID = ctx->GetMethodID(
-                    fileCls,
-                    "<init>",
-                    "("
-                    "Lcom/simplito/java/privmx_endpoint/model/ServerFileInfo;"
-                    "[B"
-                    "[B"
-                    "Ljava/lang/Long;"
-                    "Ljava/lang/String;"
-                    "Ljava/lang/Long;"
-                    "Ljava/lang/Long;"
-                    ")V"
-            );
+            jclass fileCls = jni::cache().file.cls;
+            jmethodID initFileMID = jni::cache().file.init;
 
             jbyteArray publicMeta = ctx->NewByteArray(file_c.publicMeta.size());
             jbyteArray privateMeta = ctx->NewByteArray(file_c.privateMeta.size());
@@ -813,16 +588,30 @@ namespace privmx {
             );
         }
 
+        jobject lazyFile2Java(JniContextUtils &ctx, privmx::endpoint::store::File file_c) {
+            auto payload = new NativePayload();
+            payload->fields.reserve(2);
+            payload->fields.push_back(std::move(file_c.publicMeta));
+            payload->fields.push_back(std::move(file_c.privateMeta));
+            jobject result = ctx->NewObject(
+                    jni::cache().lazyFile.cls,
+                    jni::cache().lazyFile.init,
+                    serverFileInfo2Java(ctx, file_c.info),
+                    ctx.long2jLong(file_c.size),
+                    ctx->NewStringUTF(file_c.authorPubKey.c_str()),
+                    ctx.long2jLong(file_c.statusCode),
+                    ctx.long2jLong(file_c.schemaVersion),
+                    reinterpret_cast<jlong>(payload)
+            );
+            if (result == nullptr) delete payload;
+            return result;
+        }
+
         //Event
         jobject storeFileDeletedEventData2Java(JniContextUtils &ctx,
                                                privmx::endpoint::store::StoreFileDeletedEventData storeFileDeletedEventData_c) {
-            jclass storeFileDeletedEventDataCls = ctx->FindClass(
-                    "com/simplito/java/privmx_endpoint/model/events/StoreFileDeletedEventData");
-            jmethodID initStoreFileDeletedEventDataMID = ctx->GetMethodID(
-                    storeFileDeletedEventDataCls,
-                    "<init>",
-                    "(Ljava/lang/String;Ljava/lang/String;Ljava/lang/String;)V"
-            );
+            jclass storeFileDeletedEventDataCls = jni::cache().storeFileDeletedEventData.cls;
+            jmethodID initStoreFileDeletedEventDataMID = jni::cache().storeFileDeletedEventData.init;
             return ctx->NewObject(
                     storeFileDeletedEventDataCls,
                     initStoreFileDeletedEventDataMID,
@@ -834,13 +623,8 @@ namespace privmx {
 
         jobject storeStatsChangedEventData2Java(JniContextUtils &ctx,
                                                 privmx::endpoint::store::StoreStatsChangedEventData storeStatsChangedEventData_c) {
-            jclass storeStatsChangedEventDataCls = ctx->FindClass(
-                    "com/simplito/java/privmx_endpoint/model/events/StoreStatsChangedEventData");
-            jmethodID initStoreStatsChangedEventDataMID = ctx->GetMethodID(
-                    storeStatsChangedEventDataCls,
-                    "<init>",
-                    "(Ljava/lang/String;Ljava/lang/String;Ljava/lang/Long;Ljava/lang/Long;)V"
-            );
+            jclass storeStatsChangedEventDataCls = jni::cache().storeStatsChangedEventData.cls;
+            jmethodID initStoreStatsChangedEventDataMID = jni::cache().storeStatsChangedEventData.init;
             return ctx->NewObject(
                     storeStatsChangedEventDataCls,
                     initStoreStatsChangedEventDataMID,
@@ -853,13 +637,8 @@ namespace privmx {
 
         jobject threadDeletedEventData2Java(JniContextUtils &ctx,
                                             privmx::endpoint::thread::ThreadDeletedEventData threadDeletedEventData_c) {
-            jclass threadDeletedEventDataCls = ctx->FindClass(
-                    "com/simplito/java/privmx_endpoint/model/events/ThreadDeletedEventData");
-            jmethodID initThreadDeletedEventDataMID = ctx->GetMethodID(
-                    threadDeletedEventDataCls,
-                    "<init>",
-                    "(Ljava/lang/String;)V"
-            );
+            jclass threadDeletedEventDataCls = jni::cache().threadDeletedEventData.cls;
+            jmethodID initThreadDeletedEventDataMID = jni::cache().threadDeletedEventData.init;
             return ctx->NewObject(
                     threadDeletedEventDataCls,
                     initThreadDeletedEventDataMID,
@@ -869,13 +648,8 @@ namespace privmx {
 
         jobject threadDeletedMessageEventData2Java(JniContextUtils &ctx,
                                                    privmx::endpoint::thread::ThreadDeletedMessageEventData threadDeletedMessageEventData) {
-            jclass threadDeletedMessageEventDataCls = ctx->FindClass(
-                    "com/simplito/java/privmx_endpoint/model/events/ThreadDeletedMessageEventData");
-            jmethodID initThreadDeletedMessageEventDataMID = ctx->GetMethodID(
-                    threadDeletedMessageEventDataCls,
-                    "<init>",
-                    "(Ljava/lang/String;Ljava/lang/String;)V"
-            );
+            jclass threadDeletedMessageEventDataCls = jni::cache().threadDeletedMessageEventData.cls;
+            jmethodID initThreadDeletedMessageEventDataMID = jni::cache().threadDeletedMessageEventData.init;
             return ctx->NewObject(
                     threadDeletedMessageEventDataCls,
                     initThreadDeletedMessageEventDataMID,
@@ -886,13 +660,8 @@ namespace privmx {
 
         jobject storeDeletedEventData2Java(JniContextUtils &ctx,
                                            privmx::endpoint::store::StoreDeletedEventData storeDeletedEventData_c) {
-            jclass storeDeletedEventDataCls = ctx->FindClass(
-                    "com/simplito/java/privmx_endpoint/model/events/StoreDeletedEventData");
-            jmethodID initStoreDeletedEventDataMID = ctx->GetMethodID(
-                    storeDeletedEventDataCls,
-                    "<init>",
-                    "(Ljava/lang/String;)V"
-            );
+            jclass storeDeletedEventDataCls = jni::cache().storeDeletedEventData.cls;
+            jmethodID initStoreDeletedEventDataMID = jni::cache().storeDeletedEventData.init;
             return ctx->NewObject(
                     storeDeletedEventDataCls,
                     initStoreDeletedEventDataMID,
@@ -904,13 +673,8 @@ namespace privmx {
                 JniContextUtils &ctx,
                 privmx::endpoint::thread::ThreadStatsEventData threadStatsEventData_c
         ) {
-            jclass threadStatsEventDataCls = ctx->FindClass(
-                    "com/simplito/java/privmx_endpoint/model/events/ThreadStatsEventData");
-            jmethodID initThreadStatsEventDataMID = ctx->GetMethodID(
-                    threadStatsEventDataCls,
-                    "<init>",
-                    "(Ljava/lang/String;Ljava/lang/Long;Ljava/lang/Long;)V"
-            );
+            jclass threadStatsEventDataCls = jni::cache().threadStatsEventData.cls;
+            jmethodID initThreadStatsEventDataMID = jni::cache().threadStatsEventData.init;
             return ctx->NewObject(
                     threadStatsEventDataCls,
                     initThreadStatsEventDataMID,
@@ -924,13 +688,8 @@ namespace privmx {
                 JniContextUtils &ctx,
                 privmx::endpoint::inbox::InboxDeletedEventData inboxDeletedEventData_c
         ) {
-            jclass inboxDeletedEventDataCls = ctx->FindClass(
-                    "com/simplito/java/privmx_endpoint/model/events/InboxDeletedEventData");
-            jmethodID initInboxDeletedEventDataMID = ctx->GetMethodID(
-                    inboxDeletedEventDataCls,
-                    "<init>",
-                    "(Ljava/lang/String;)V"
-            );
+            jclass inboxDeletedEventDataCls = jni::cache().inboxDeletedEventData.cls;
+            jmethodID initInboxDeletedEventDataMID = jni::cache().inboxDeletedEventData.init;
             return ctx->NewObject(
                     inboxDeletedEventDataCls,
                     initInboxDeletedEventDataMID,
@@ -942,13 +701,8 @@ namespace privmx {
                 JniContextUtils &ctx,
                 privmx::endpoint::inbox::InboxEntryDeletedEventData inboxEntryDeletedEventData_c
         ) {
-            jclass inboxEntryDeletedEventDataCls = ctx->FindClass(
-                    "com/simplito/java/privmx_endpoint/model/events/InboxEntryDeletedEventData");
-            jmethodID initInboxEntryDeletedEventDataMID = ctx->GetMethodID(
-                    inboxEntryDeletedEventDataCls,
-                    "<init>",
-                    "(Ljava/lang/String;Ljava/lang/String;)V"
-            );
+            jclass inboxEntryDeletedEventDataCls = jni::cache().inboxEntryDeletedEventData.cls;
+            jmethodID initInboxEntryDeletedEventDataMID = jni::cache().inboxEntryDeletedEventData.init;
             return ctx->NewObject(
                     inboxEntryDeletedEventDataCls,
                     initInboxEntryDeletedEventDataMID,
@@ -961,13 +715,8 @@ namespace privmx {
                 JniContextUtils &ctx,
                 privmx::endpoint::event::ContextCustomEventData contextCustomEvent_c
         ) {
-            jclass contextCustomEventDataCls = ctx->FindClass(
-                    "com/simplito/java/privmx_endpoint/model/events/ContextCustomEventData");
-            jmethodID initContextCustomEventDataMID = ctx->GetMethodID(
-                    contextCustomEventDataCls,
-                    "<init>",
-                    "(Ljava/lang/String;Ljava/lang/String;[B)V"
-            );
+            jclass contextCustomEventDataCls = jni::cache().contextCustomEventData.cls;
+            jmethodID initContextCustomEventDataMID = jni::cache().contextCustomEventData.init;
             jbyteArray data = ctx->NewByteArray(contextCustomEvent_c.payload.size());
             ctx->SetByteArrayRegion(data, 0, contextCustomEvent_c.payload.size(),
                                     (jbyte *) contextCustomEvent_c.payload.data());
@@ -82,6 +82,11 @@ namespace privmx {
 
         jobject message2Java(JniContextUtils &ctx, privmx::endpoint::thread::Message message_c);
 
+        /**
+         * Converts message to LazyMessage, keeping its byte fields in native memory.
+         */
+        jobject lazyMessage2Java(JniContextUtils &ctx, privmx::endpoint::thread::Message message_c);
+
         //Store
         jobject store2Java(JniContextUtils &ctx, privmx::endpoint::store::Store store_c);
 
@@ -103,6 +108,11 @@ namespace privmx {
 
         jobject file2Java(JniContextUtils &ctx, privmx::endpoint::store::File file_c);
 
+        /**
+         * Converts file to LazyFile, keeping its byte fields in native memory.
+         */
+        jobject lazyFile2Java(JniContextUtils &ctx, privmx::endpoint::store::File file_c);
+
         //Event
         jobject storeDeletedEventData2Java(JniContextUtils &ctx,
                                            privmx::endpoint::store::StoreDeletedEventData storeDeletedEventData_c);
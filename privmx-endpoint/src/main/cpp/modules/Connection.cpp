@@ -21,13 +21,11 @@
 
 privmx::endpoint::core::Connection *getConnection(JNIEnv *env, jobject thiz) {
     JniContextUtils ctx(env);
-    jclass cls = ctx->GetObjectClass(thiz);
-    jfieldID apiFID = ctx->GetFieldID(cls, "api", "Ljava/lang/Long;");
-    jobject apiLong = ctx->GetObjectField(thiz, apiFID);
-    if (apiLong == nullptr) {
+    jlong api = ctx->GetLongField(thiz, privmx::wrapper::jni::cache().connectionHandle);
+    if (api == 0) {
         throw IllegalStateException("Platform is not connected. Connect to platform first.");
     }
-    return (privmx::endpoint::core::Connection *) ctx.getObject(apiLong).getLongValue();
+    return (privmx::endpoint::core::Connection *) api;
 }
 
 extern "C" JNIEXPORT void JNICALL
@@ -36,12 +34,10 @@ Java_com_simplito_java_privmx_1endpoint_modules_core_Connection_deinit(JNIEnv *e
         //if null go to catch
         auto api = getConnection(env, thiz);
         delete api;
-        jclass cls = env->GetObjectClass(thiz);
-        jfieldID apiFID = env->GetFieldID(cls, "api", "Ljava/lang/Long;");
-        env->SetObjectField(thiz, apiFID, (jobject) nullptr);
+        env->SetLongField(thiz, privmx::wrapper::jni::cache().connectionHandle, 0);
     } catch (const IllegalStateException &e) {
         env->ThrowNew(
-                env->FindClass("java/lang/IllegalStateException"),
+                privmx::wrapper::jni::cache().illegalStateException,
                 e.what()
         );
     }
@@ -77,24 +73,13 @@ Java_com_simplito_java_privmx_1endpoint_modules_core_Connection_listContexts(
                 }
                 privmx::endpoint::core::PagingList<privmx::endpoint::core::Context> infos = getConnection(
                         env, thiz)->listContexts(query);
-                jclass pagingListCls = env->FindClass(
-                        "com/simplito/java/privmx_endpoint/model/PagingList");
-                jmethodID pagingListInitMID = env->GetMethodID(
-                        pagingListCls,
-                        "<init>",
-                        "(Ljava/lang/Long;Ljava/util/List;)V");
-                jclass arrayListCls = env->FindClass("java/util/ArrayList");
-                jmethodID initMID = env->GetMethodID(arrayListCls, "<init>", "()V");
-                jmethodID addToListMID = env->GetMethodID(arrayListCls,
-                                                          "add",
-                                                          "(Ljava/lang/Object;)Z");
-                jobject array = env->NewObject(arrayListCls, initMID);
-                for (auto &context: infos.readItems) {
-                    env->CallBooleanMethod(
-                            array,
-                            addToListMID,
-                            privmx::wrapper::context2Java(ctx, context));
-                }
+                jclass pagingListCls = privmx::wrapper::jni::cache().pagingList.cls;
+                jmethodID pagingListInitMID = privmx::wrapper::jni::cache().pagingList.init;
+                jobject array = ctx.vector2jList(
+                        infos.readItems,
+                        [&ctx](const auto &context) {
+                            return privmx::wrapper::context2Java(ctx, context);
+                        });
                 return ctx->NewObject(
                         pagingListCls,
                         pagingListInitMID,
@@ -153,10 +138,7 @@ Java_com_simplito_java_privmx_1endpoint_modules_core_Connection_connect(
     ctx.callResultEndpointApi<jobject>(
             &result,
             [&ctx, &clazz, &user_priv_key, &solution_id, &bridge_url, &pki_verification_options]() {
-                jmethodID initMID = ctx->GetMethodID(
-                        clazz,
-                        "<init>",
-                        "(Ljava/lang/Long;)V");
+                jmethodID initMID = privmx::wrapper::jni::cache().connection.init;
 
                 privmx::endpoint::core::Connection connection;
                 if (pki_verification_options != nullptr) {
@@ -177,7 +159,7 @@ Java_com_simplito_java_privmx_1endpoint_modules_core_Connection_connect(
                 jobject result = ctx->NewObject(
                         clazz,
                         initMID,
-                        ctx.long2jLong((jlong) api));
+                        (jlong) api);
                 return result;
             });
     if (ctx->ExceptionCheck()) {
@@ -202,10 +184,7 @@ Java_com_simplito_java_privmx_1endpoint_modules_core_Connection_connectPublic(
     ctx.callResultEndpointApi<jobject>(
             &result,
             [&ctx, &clazz, &solution_id, &bridge_url, &pki_verification_options]() {
-                jmethodID initMID = ctx->GetMethodID(
-                        clazz,
-                        "<init>",
-                        "(Ljava/lang/Long;)V");
+                jmethodID initMID = privmx::wrapper::jni::cache().connection.init;
 
                 privmx::endpoint::core::Connection connection;
                 if (pki_verification_options != nullptr) {
@@ -224,7 +203,7 @@ Java_com_simplito_java_privmx_1endpoint_modules_core_Connection_connectPublic(
                 jobject result = ctx->NewObject(
                         clazz,
                         initMID,
-                        ctx.long2jLong((jlong) api));
+                        (jlong) api);
                 return result;
             });
     if (ctx->ExceptionCheck()) {
@@ -285,25 +264,16 @@ Java_com_simplito_java_privmx_1endpoint_modules_core_Connection_getContextUsers(
             &result,
             [&ctx, &env, &thiz, &context_id]() {
 
-                jclass arrayListCls = env->FindClass("java/util/ArrayList");
-                jmethodID initMID = env->GetMethodID(arrayListCls, "<init>", "()V");
-                jmethodID addToListMID = env->GetMethodID(arrayListCls, "add",
-                                                          "(Ljava/lang/Object;)Z");
-                jobject array = env->NewObject(arrayListCls, initMID);
-
-
                 std::vector<privmx::endpoint::core::UserInfo> users = getConnection(
                         env,
                         thiz
                 )->getContextUsers(ctx.jString2string(context_id));
 
-                for (auto &user: users) {
-                    env->CallBooleanMethod(
-                            array,
-                            addToListMID,
-                            privmx::wrapper::userInfo2Java(ctx, user)
-                    );
-                }
+                jobject array = ctx.vector2jList(
+                        users,
+                        [&ctx](const auto &user) {
+                            return privmx::wrapper::userInfo2Java(ctx, user);
+                        });
 
                 return array;
             });
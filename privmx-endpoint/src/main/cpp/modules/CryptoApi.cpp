@@ -19,31 +19,29 @@
 using namespace privmx::endpoint;
 
 crypto::CryptoApi *getCryptoApi(JniContextUtils &ctx, jobject thiz) {
-    jclass cls = ctx->GetObjectClass(thiz);
-    jfieldID apiFID = ctx->GetFieldID(cls, "api", "Ljava/lang/Long;");
-    jobject apiLong = ctx->GetObjectField(thiz, apiFID);
-    if (apiLong == nullptr) {
+    jlong api = ctx->GetLongField(thiz, privmx::wrapper::jni::cache().cryptoApiHandle);
+    if (api == 0) {
         throw IllegalStateException("CryptoApi cannot be used");
     }
-    return (crypto::CryptoApi *) ctx.getObject(apiLong).getLongValue();
+    return (crypto::CryptoApi *) api;
 }
 
 
 extern "C"
-JNIEXPORT jobject JNICALL
+JNIEXPORT jlong JNICALL
 Java_com_simplito_java_privmx_1endpoint_modules_crypto_CryptoApi_init(JNIEnv *env, jobject thiz) {
     JniContextUtils ctx(env);
-    jobject result;
-    ctx.callResultEndpointApi<jobject>(
+    jlong result = 0;
+    ctx.callResultEndpointApi<jlong>(
             &result,
             [&ctx]() {
                 auto cryptoApi = crypto::CryptoApi::create();
                 auto cryptoApi_ptr = new crypto::CryptoApi();
                 *cryptoApi_ptr = cryptoApi;
-                return ctx.long2jLong((jlong) cryptoApi_ptr);
+                return (jlong) cryptoApi_ptr;
             });
     if (ctx->ExceptionCheck()) {
-        return nullptr;
+        return 0;
     }
     return result;
 }
@@ -55,12 +53,10 @@ Java_com_simplito_java_privmx_1endpoint_modules_crypto_CryptoApi_deinit(JNIEnv *
         //if null go to catch
         auto api = getCryptoApi(ctx, thiz);
         delete api;
-        jclass cls = env->GetObjectClass(thiz);
-        jfieldID apiFID = env->GetFieldID(cls, "api", "Ljava/lang/Long;");
-        env->SetObjectField(thiz, apiFID, (jobject) nullptr);
+        env->SetLongField(thiz, privmx::wrapper::jni::cache().cryptoApiHandle, 0);
     } catch (const IllegalStateException &e) {
         env->ThrowNew(
-                env->FindClass("java/lang/IllegalStateException"),
+                privmx::wrapper::jni::cache().illegalStateException,
                 e.what()
         );
     }
@@ -18,35 +18,33 @@
 using namespace privmx::endpoint;
 
 event::EventApi *getEventApi(JniContextUtils &ctx, jobject thiz) {
-    jclass cls = ctx->GetObjectClass(thiz);
-    jfieldID apiFID = ctx->GetFieldID(cls, "api", "Ljava/lang/Long;");
-    jobject apiLong = ctx->GetObjectField(thiz, apiFID);
-    if (apiLong == nullptr) {
+    jlong api = ctx->GetLongField(thiz, privmx::wrapper::jni::cache().eventApiHandle);
+    if (api == 0) {
         throw IllegalStateException("EventApi cannot be used");
     }
-    return (event::EventApi *) ctx.getObject(apiLong).getLongValue();
+    return (event::EventApi *) api;
 }
 
 extern "C"
-JNIEXPORT jobject JNICALL
+JNIEXPORT jlong JNICALL
 Java_com_simplito_java_privmx_1endpoint_modules_event_EventApi_init(
         JNIEnv *env,
         jobject thiz,
         jobject connection
 ) {
     JniContextUtils ctx(env);
-    jobject result;
-    ctx.callResultEndpointApi<jobject>(
+    jlong result = 0;
+    ctx.callResultEndpointApi<jlong>(
             &result,
             [&ctx, &env, &connection]() {
                 auto connection_c = getConnection(env, connection);
                 auto eventApi = event::EventApi::create(*connection_c);
                 auto eventApi_ptr = new event::EventApi();
                 *eventApi_ptr = eventApi;
-                return ctx.long2jLong((jlong) eventApi_ptr);
+                return (jlong) eventApi_ptr;
             });
     if (ctx->ExceptionCheck()) {
-        return nullptr;
+        return 0;
     }
     return result;
 }
@@ -62,12 +60,10 @@ Java_com_simplito_java_privmx_1endpoint_modules_event_EventApi_deinit(
         //if null go to catch
         auto api = getEventApi(ctx, thiz);
         delete api;
-        jclass cls = env->GetObjectClass(thiz);
-        jfieldID apiFID = env->GetFieldID(cls, "api", "Ljava/lang/Long;");
-        env->SetObjectField(thiz, apiFID, (jobject) nullptr);
+        env->SetLongField(thiz, privmx::wrapper::jni::cache().eventApiHandle, 0);
     } catch (const IllegalStateException &e) {
         env->ThrowNew(
-                env->FindClass("java/lang/IllegalStateException"),
+                privmx::wrapper::jni::cache().illegalStateException,
                 e.what()
         );
     }
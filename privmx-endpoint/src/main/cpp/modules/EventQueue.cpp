@@ -10,11 +10,36 @@
 //
 
 #include <jni.h>
+#include <algorithm>
+#include <chrono>
 #include <privmx/endpoint/core/EventQueue.hpp>
 #include "../utils.hpp"
 #include "../parser.h"
+#include "../eventBuffer.h"
 
 using namespace privmx::endpoint::core;
+using privmx::wrapper::EventBuffer;
+
+namespace {
+    /**
+     * Converts drained events one by one. Drained events are already removed from the buffer,
+     * so an event that cannot be converted is skipped instead of failing the whole batch:
+     * its exception is cleared and it is not added to the list (vector2jList skips null elements).
+     */
+    jobject events2jList(JniContextUtils &ctx, const std::vector<EventBuffer::EventPtr> &events) {
+        return ctx.vector2jList(
+                events,
+                [&ctx](const EventBuffer::EventPtr &event) -> jobject {
+                    try {
+                        jobject result = parseEvent(ctx, event);
+                        if (!ctx->ExceptionCheck()) return result;
+                    } catch (...) {
+                    }
+                    if (ctx->ExceptionCheck()) ctx->ExceptionClear();
+                    return nullptr;
+                });
+    }
+}
 
 extern "C"
 JNIEXPORT void JNICALL
@@ -29,14 +54,33 @@ Java_com_simplito_java_privmx_1endpoint_modules_core_EventQueue_emitBreakEvent(
 }
 extern "C"
 JNIEXPORT jobject JNICALL
-Java_com_simplito_java_privmx_1endpoint_modules_core_EventQueue_waitEvent(
+Java_com_simplito_java_privmx_1endpoint_modules_core_EventQueue_waitEvent__(
         JNIEnv *env,
         jclass clazz
 ) {
     JniContextUtils ctx(env);
     jobject result;
     ctx.callResultEndpointApi<jobject>(&result, [&ctx]() {
-        return parseEvent(ctx, EventQueue::getInstance().waitEvent().get());
+        return parseEvent(ctx, EventBuffer::getInstance().wait());
+    });
+    if (ctx->ExceptionCheck()) {
+        return nullptr;
+    }
+    return result;
+}
+extern "C"
+JNIEXPORT jobject JNICALL
+Java_com_simplito_java_privmx_1endpoint_modules_core_EventQueue_waitEvent__J(
+        JNIEnv *env,
+        jclass clazz,
+        jlong timeout_millis
+) {
+    JniContextUtils ctx(env);
+    jobject result;
+    ctx.callResultEndpointApi<jobject>(&result, [&ctx, &timeout_millis]() {
+        auto event = EventBuffer::getInstance().wait(
+                std::chrono::milliseconds(std::max<jlong>(timeout_millis, 0)));
+        return event == nullptr ? nullptr : parseEvent(ctx, event);
     });
     if (ctx->ExceptionCheck()) {
         return nullptr;
@@ -52,13 +96,136 @@ Java_com_simplito_java_privmx_1endpoint_modules_core_EventQueue_getEvent(
     JniContextUtils ctx(env);
     jobject result;
     ctx.callResultEndpointApi<jobject>(&result, [&ctx]() {
-        auto eventHolder = EventQueue::getInstance().getEvent();
-        return !eventHolder.has_value() ?
-               nullptr :
-               parseEvent(ctx, eventHolder.value().get());
+        auto event = EventBuffer::getInstance().poll();
+        return event == nullptr ? nullptr : parseEvent(ctx, event);
+    });
+    if (ctx->ExceptionCheck()) {
+        return nullptr;
+    }
+    return result;
+}
+extern "C"
+JNIEXPORT jobject JNICALL
+Java_com_simplito_java_privmx_1endpoint_modules_core_EventQueue_drainEvents(
+        JNIEnv *env,
+        jclass clazz,
+        jint max_events,
+        jlong timeout_millis
+) {
+    JniContextUtils ctx(env);
+    if (max_events <= 0) {
+        env->ThrowNew(
+                privmx::wrapper::jni::cache().illegalArgumentException,
+                "Max events must be greater than 0"
+        );
+        return nullptr;
+    }
+    jobject result;
+    ctx.callResultEndpointApi<jobject>(&result, [&ctx, &max_events, &timeout_millis]() {
+        auto events = EventBuffer::getInstance().drain(
+                max_events,
+                std::chrono::milliseconds(std::max<jlong>(timeout_millis, 0)));
+        return events2jList(ctx, events);
+    });
+    if (ctx->ExceptionCheck()) {
+        return nullptr;
+    }
+    return result;
+}
+
+extern "C"
+JNIEXPORT void JNICALL
+Java_com_simplito_java_privmx_1endpoint_modules_core_EventQueue_setEventFilter(
+        JNIEnv *env,
+        jclass clazz,
+        jobject event_filter
+) {
+    JniContextUtils ctx(env);
+    ctx.callVoidEndpointApi([&ctx, &event_filter]() {
+        if (event_filter == nullptr) {
+            EventBuffer::getInstance().setFilter(nullptr);
+            return;
+        }
+        auto filter = std::make_shared<privmx::wrapper::EventFilter>(
+                parseEventFilter(ctx, event_filter));
+        if (ctx->ExceptionCheck()) return;
+        EventBuffer::getInstance().setFilter(filter);
+    });
+}
+
+extern "C"
+JNIEXPORT void JNICALL
+Java_com_simplito_java_privmx_1endpoint_modules_core_EventQueue_setLazyPayloads(
+        JNIEnv *env,
+        jclass clazz,
+        jboolean enabled
+) {
+    setLazyEventPayloads(enabled == JNI_TRUE);
+}
+
+extern "C"
+JNIEXPORT void JNICALL
+Java_com_simplito_java_privmx_1endpoint_modules_core_EventQueue_setShardCount(
+        JNIEnv *env,
+        jclass clazz,
+        jint shard_count
+) {
+    JniContextUtils ctx(env);
+    if (shard_count <= 0) {
+        env->ThrowNew(
+                privmx::wrapper::jni::cache().illegalArgumentException,
+                "Shard count must be greater than 0"
+        );
+        return;
+    }
+    ctx.callVoidEndpointApi([&shard_count]() {
+        EventBuffer::getInstance().setShardCount(shard_count);
+    });
+}
+
+extern "C"
+JNIEXPORT jint JNICALL
+Java_com_simplito_java_privmx_1endpoint_modules_core_EventQueue_getShardCount(
+        JNIEnv *env,
+        jclass clazz
+) {
+    return static_cast<jint>(EventBuffer::getInstance().getShardCount());
+}
+
+extern "C"
+JNIEXPORT jobject JNICALL
+Java_com_simplito_java_privmx_1endpoint_modules_core_EventQueue_drainShardEvents(
+        JNIEnv *env,
+        jclass clazz,
+        jint shard,
+        jint max_events,
+        jlong timeout_millis
+) {
+    JniContextUtils ctx(env);
+    if (shard < 0 || static_cast<size_t>(shard) >= EventBuffer::getInstance().getShardCount()) {
+        env->ThrowNew(
+                privmx::wrapper::jni::cache().illegalArgumentException,
+                "Shard is out of range"
+        );
+        return nullptr;
+    }
+    if (max_events <= 0) {
+        env->ThrowNew(
+                privmx::wrapper::jni::cache().illegalArgumentException,
+                "Max events must be greater than 0"
+        );
+        return nullptr;
+    }
+    jobject result;
+    ctx.callResultEndpointApi<jobject>(&result, [&ctx, &shard, &max_events, &timeout_millis]() {
+        auto events = EventBuffer::getInstance().drainShard(
+                shard,
+                max_events,
+                std::chrono::milliseconds(std::max<jlong>(timeout_millis, 0)));
+        return events2jList(ctx, events);
     });
     if (ctx->ExceptionCheck()) {
         return nullptr;
     }
     return result;
-}
\ No newline at end of file
+}
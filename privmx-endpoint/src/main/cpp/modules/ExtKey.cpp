@@ -16,24 +16,21 @@
 using namespace privmx::endpoint;
 
 crypto::ExtKey *getExtKey(JniContextUtils &ctx, jobject thiz) {
-    jclass cls = ctx->GetObjectClass(thiz);
-    jfieldID keyFID = ctx->GetFieldID(cls, "key", "Ljava/lang/Long;");
-    jobject keyLong = ctx->GetObjectField(thiz, keyFID);
-    if (keyLong == nullptr) {
+    jlong key = ctx->GetLongField(thiz, privmx::wrapper::jni::cache().extKeyHandle);
+    if (key == 0) {
         throw IllegalStateException("This ExtKey instance cannot be used anymore");
     }
-    return (crypto::ExtKey *) ctx.getObject(keyLong).getLongValue();
+    return (crypto::ExtKey *) key;
 }
 
 jobject initExtKey(JniContextUtils &ctx, privmx::endpoint::crypto::ExtKey &extKey_c, jclass clazz) {
-    jmethodID initExtKeyMID = ctx->GetMethodID(
-            clazz, "<init>", "(Ljava/lang/Long;)V");
+    jmethodID initExtKeyMID = privmx::wrapper::jni::cache().extKey.init;
 
     auto *key = new privmx::endpoint::crypto::ExtKey(extKey_c);
     return ctx->NewObject(
             clazz,
             initExtKeyMID,
-            ctx.long2jLong((jlong) key));
+            (jlong) key);
 }
 
 extern "C"
@@ -46,12 +43,10 @@ Java_com_simplito_java_privmx_1endpoint_modules_crypto_ExtKey_deinit(
         JniContextUtils ctx(env);
         auto key = getExtKey(ctx, thiz);
         delete key;
-        jclass cls = env->GetObjectClass(thiz);
-        jfieldID keyFID = env->GetFieldID(cls, "key", "Ljava/lang/Long;");
-        env->SetObjectField(thiz, keyFID, (jobject) nullptr);
+        env->SetLongField(thiz, privmx::wrapper::jni::cache().extKeyHandle, 0);
     } catch (const IllegalStateException &e) {
         env->ThrowNew(
-                env->FindClass("java/lang/IllegalStateException"),
+                privmx::wrapper::jni::cache().illegalStateException,
                 e.what()
         );
     }
@@ -142,8 +137,7 @@ Java_com_simplito_java_privmx_1endpoint_modules_crypto_ExtKey_derive(
             &result,
             [&ctx, &env, &thiz, &index]() {
                 crypto::ExtKey extKey = getExtKey(ctx, thiz)->derive(index);
-                jclass cls = env->GetObjectClass(thiz);
-                return initExtKey(ctx, extKey, cls);
+                return initExtKey(ctx, extKey, privmx::wrapper::jni::cache().extKey.cls);
             }
     );
     if (ctx->ExceptionCheck()) {
@@ -166,8 +160,7 @@ Java_com_simplito_java_privmx_1endpoint_modules_crypto_ExtKey_deriveHardened(
             &result,
             [&ctx, &env, &thiz, &index]() {
                 crypto::ExtKey extKey = getExtKey(ctx, thiz)->deriveHardened(index);
-                jclass cls = env->GetObjectClass(thiz);
-                return initExtKey(ctx, extKey, cls);
+                return initExtKey(ctx, extKey, privmx::wrapper::jni::cache().extKey.cls);
             }
     );
     if (ctx->ExceptionCheck()) {
@@ -15,6 +15,8 @@
 #include "Connection.h"
 #include "ThreadApi.h"
 #include "StoreApi.h"
+#include <algorithm>
+#include <cstring>
 #include "../utils.hpp"
 #include "../parser.h"
 #include "../model_native_initializers.h"
@@ -24,17 +26,15 @@
 using namespace privmx::endpoint;
 
 inbox::InboxApi *getInboxApi(JniContextUtils &ctx, jobject inboxApiInstance) {
-    jclass cls = ctx->GetObjectClass(inboxApiInstance);
-    jfieldID apiFID = ctx->GetFieldID(cls, "api", "Ljava/lang/Long;");
-    jobject apiLong = ctx->GetObjectField(inboxApiInstance, apiFID);
-    if (apiLong == nullptr) {
+    jlong api = ctx->GetLongField(inboxApiInstance, privmx::wrapper::jni::cache().inboxApiHandle);
+    if (api == 0) {
         throw IllegalStateException("InboxApi cannot be used");
     }
-    return (inbox::InboxApi *) ctx.getObject(apiLong).getLongValue();
+    return (inbox::InboxApi *) api;
 }
 
 extern "C"
-JNIEXPORT jobject JNICALL
+JNIEXPORT jlong JNICALL
 Java_com_simplito_java_privmx_1endpoint_modules_inbox_InboxApi_init(
         JNIEnv *env, jobject thiz,
         jobject connection,
@@ -42,8 +42,8 @@ Java_com_simplito_java_privmx_1endpoint_modules_inbox_InboxApi_init(
         jobject store_api
 ) {
     JniContextUtils ctx(env);
-    jobject result;
-    ctx.callResultEndpointApi<jobject>(&result, [&ctx, &env, &connection, &thread_api, &store_api] {
+    jlong result = 0;
+    ctx.callResultEndpointApi<jlong>(&result, [&ctx, &env, &connection, &thread_api, &store_api] {
         auto connection_c = getConnection(env, connection);
         auto threadApi_c = getThreadApi(ctx, thread_api);
         auto storeApi_c = getStoreApi(ctx, store_api);
@@ -54,10 +54,10 @@ Java_com_simplito_java_privmx_1endpoint_modules_inbox_InboxApi_init(
         );
         auto inboxApi_ptr = new inbox::InboxApi();
         *inboxApi_ptr = inboxApi;
-        return ctx.long2jLong((jlong) inboxApi_ptr);
+        return (jlong) inboxApi_ptr;
     });
     if (ctx->ExceptionCheck()) {
-        return nullptr;
+        return 0;
     }
     return result;
 }
@@ -69,12 +69,10 @@ Java_com_simplito_java_privmx_1endpoint_modules_inbox_InboxApi_deinit(JNIEnv *en
         JniContextUtils ctx(env);
         auto api = getInboxApi(ctx, thiz);
         delete api;
-        jclass cls = env->GetObjectClass(thiz);
-        jfieldID apiFID = env->GetFieldID(cls, "api", "Ljava/lang/Long;");
-        env->SetObjectField(thiz, apiFID, (jobject) nullptr);
+        env->SetLongField(thiz, privmx::wrapper::jni::cache().inboxApiHandle, 0);
     } catch (const IllegalStateException &e) {
         env->ThrowNew(
-                env->FindClass("java/lang/IllegalStateException"),
+                privmx::wrapper::jni::cache().illegalStateException,
                 e.what()
         );
     }
@@ -254,14 +252,8 @@ Java_com_simplito_java_privmx_1endpoint_modules_inbox_InboxApi_listInboxes(
     ctx.callResultEndpointApi<jobject>(
             &result,
             [&ctx, &thiz, &context_id, &skip, &limit, &sort_order, &last_id, &query_as_json]() {
-                jclass pagingListCls = ctx->FindClass(
-                        "com/simplito/java/privmx_endpoint/model/PagingList");
-                jmethodID pagingListInitMID = ctx->GetMethodID(pagingListCls, "<init>",
-                                                               "(Ljava/lang/Long;Ljava/util/List;)V");
-                jclass arrayCls = ctx->FindClass("java/util/ArrayList");
-                jmethodID initArrayMID = ctx->GetMethodID(arrayCls, "<init>", "()V");
-                jmethodID addToArrayMID = ctx->GetMethodID(arrayCls, "add",
-                                                           "(Ljava/lang/Object;)Z");
+                jclass pagingListCls = privmx::wrapper::jni::cache().pagingList.cls;
+                jmethodID pagingListInitMID = privmx::wrapper::jni::cache().pagingList.init;
                 auto query = core::PagingQuery();
                 query.skip = skip;
                 query.limit = limit;
@@ -278,13 +270,11 @@ Java_com_simplito_java_privmx_1endpoint_modules_inbox_InboxApi_listInboxes(
                                 query
                         )
                 );
-                jobject array = ctx->NewObject(arrayCls, initArrayMID);
-                for (auto &inbox_c: inboxes_c.readItems) {
-                    ctx->CallBooleanMethod(array,
-                                           addToArrayMID,
-                                           privmx::wrapper::inbox2Java(ctx, inbox_c)
-                    );
-                }
+                jobject array = ctx.vector2jList(
+                        inboxes_c.readItems,
+                        [&ctx](const auto &inbox_c) {
+                            return privmx::wrapper::inbox2Java(ctx, inbox_c);
+                        });
                 return ctx->NewObject(
                         pagingListCls,
                         pagingListInitMID,
@@ -448,14 +438,8 @@ Java_com_simplito_java_privmx_1endpoint_modules_inbox_InboxApi_listEntries(
     ctx.callResultEndpointApi<jobject>(
             &result,
             [&ctx, &thiz, &inbox_id, &skip, &limit, &sort_order, &last_id, &query_as_json]() {
-                jclass pagingListCls = ctx->FindClass(
-                        "com/simplito/java/privmx_endpoint/model/PagingList");
-                jmethodID pagingListInitMID = ctx->GetMethodID(pagingListCls, "<init>",
-                                                               "(Ljava/lang/Long;Ljava/util/List;)V");
-                jclass arrayCls = ctx->FindClass("java/util/ArrayList");
-                jmethodID initArrayMID = ctx->GetMethodID(arrayCls, "<init>", "()V");
-                jmethodID addToArrayMID = ctx->GetMethodID(arrayCls, "add",
-                                                           "(Ljava/lang/Object;)Z");
+                jclass pagingListCls = privmx::wrapper::jni::cache().pagingList.cls;
+                jmethodID pagingListInitMID = privmx::wrapper::jni::cache().pagingList.init;
                 auto query = core::PagingQuery();
                 query.skip = skip;
                 query.limit = limit;
@@ -471,12 +455,11 @@ Java_com_simplito_java_privmx_1endpoint_modules_inbox_InboxApi_listEntries(
                                 ctx.jString2string(inbox_id),
                                 query
                         ));
-                jobject array = ctx->NewObject(arrayCls, initArrayMID);
-                for (auto &entry_c: entries_c.readItems) {
-                    ctx->CallBooleanMethod(array,
-                                           addToArrayMID,
-                                           privmx::wrapper::inboxEntry2Java(ctx, entry_c));
-                }
+                jobject array = ctx.vector2jList(
+                        entries_c.readItems,
+                        [&ctx](const auto &entry_c) {
+                            return privmx::wrapper::inboxEntry2Java(ctx, entry_c);
+                        });
                 return ctx->NewObject(
                         pagingListCls,
                         pagingListInitMID,
@@ -538,7 +521,7 @@ Java_com_simplito_java_privmx_1endpoint_modules_inbox_InboxApi_createFileHandle(
 }
 extern "C"
 JNIEXPORT void JNICALL
-Java_com_simplito_java_privmx_1endpoint_modules_inbox_InboxApi_writeToFile(
+Java_com_simplito_java_privmx_1endpoint_modules_inbox_InboxApi_writeToFile__JJ_3B(
         JNIEnv *env,
         jobject thiz,
         jlong inbox_handle,
@@ -558,6 +541,36 @@ Java_com_simplito_java_privmx_1endpoint_modules_inbox_InboxApi_writeToFile(
         );
     });
 }
+
+extern "C"
+JNIEXPORT void JNICALL
+Java_com_simplito_java_privmx_1endpoint_modules_inbox_InboxApi_writeToFile__JJLjava_nio_ByteBuffer_2II(
+        JNIEnv *env,
+        jobject thiz,
+        jlong inbox_handle,
+        jlong inbox_file_handle,
+        jobject data_chunk,
+        jint offset,
+        jint length
+) {
+    JniContextUtils ctx(env);
+    if (ctx.nullCheck(data_chunk, "Data chunk")) {
+        return;
+    }
+    char *data_chunk_c = ctx.directBufferRegion(data_chunk, offset, length, "Data chunk");
+    if (data_chunk_c == nullptr) {
+        return;
+    }
+    ctx.callVoidEndpointApi(
+            [&ctx, &thiz, &inbox_handle, &inbox_file_handle, &data_chunk_c, &length]() {
+                getInboxApi(ctx, thiz)->writeToFile(
+                        inbox_handle,
+                        inbox_file_handle,
+                        core::Buffer::from(data_chunk_c, length)
+                );
+            });
+}
+
 extern "C"
 JNIEXPORT jobject JNICALL
 Java_com_simplito_java_privmx_1endpoint_modules_inbox_InboxApi_openFile(
@@ -587,7 +600,7 @@ Java_com_simplito_java_privmx_1endpoint_modules_inbox_InboxApi_openFile(
 
 extern "C"
 JNIEXPORT jbyteArray JNICALL
-Java_com_simplito_java_privmx_1endpoint_modules_inbox_InboxApi_readFromFile(
+Java_com_simplito_java_privmx_1endpoint_modules_inbox_InboxApi_readFromFile__JJ(
         JNIEnv *env,
         jobject thiz,
         jlong file_handle,
@@ -598,13 +611,13 @@ Java_com_simplito_java_privmx_1endpoint_modules_inbox_InboxApi_readFromFile(
     ctx.callResultEndpointApi<jbyteArray>(
             &result,
             [&ctx, &thiz, &file_handle, &length]() {
-                auto data_c = getInboxApi(ctx, thiz)->readFromFile(file_handle, length).stdString();
-                jbyteArray data = ctx->NewByteArray(data_c.length());
+                auto data_c = getInboxApi(ctx, thiz)->readFromFile(file_handle, length);
+                jbyteArray data = ctx->NewByteArray(data_c.size());
                 ctx->SetByteArrayRegion(
                         data,
                         0,
-                        data_c.length(),
-                        (jbyte *) data_c.c_str()
+                        data_c.size(),
+                        (const jbyte *) data_c.data()
                 );
                 return data;
             });
@@ -614,6 +627,69 @@ Java_com_simplito_java_privmx_1endpoint_modules_inbox_InboxApi_readFromFile(
     return result;
 }
 
+extern "C"
+JNIEXPORT jint JNICALL
+Java_com_simplito_java_privmx_1endpoint_modules_inbox_InboxApi_readFromFile__J_3BII(
+        JNIEnv *env,
+        jobject thiz,
+        jlong file_handle,
+        jbyteArray dst,
+        jint offset,
+        jint length
+) {
+    JniContextUtils ctx(env);
+    if (ctx.nullCheck(dst, "Destination") ||
+        !ctx.regionCheck(ctx->GetArrayLength(dst), offset, length, "Destination")) {
+        return 0;
+    }
+    jint result = 0;
+    ctx.callResultEndpointApi<jint>(
+            &result,
+            [&ctx, &thiz, &file_handle, &dst, &offset, &length]() {
+                auto data_c = getInboxApi(ctx, thiz)->readFromFile(file_handle, length);
+                auto read = (jint) std::min(data_c.size(), (size_t) length);
+                ctx->SetByteArrayRegion(dst, offset, read, (const jbyte *) data_c.data());
+                return read;
+            });
+    if (ctx->ExceptionCheck()) {
+        return 0;
+    }
+    return result;
+}
+
+extern "C"
+JNIEXPORT jint JNICALL
+Java_com_simplito_java_privmx_1endpoint_modules_inbox_InboxApi_readFromFileDirect(
+        JNIEnv *env,
+        jobject thiz,
+        jlong file_handle,
+        jobject dst,
+        jint offset,
+        jint length
+) {
+    JniContextUtils ctx(env);
+    if (ctx.nullCheck(dst, "Destination")) {
+        return 0;
+    }
+    char *dst_c = ctx.directBufferRegion(dst, offset, length, "Destination");
+    if (dst_c == nullptr) {
+        return 0;
+    }
+    jint result = 0;
+    ctx.callResultEndpointApi<jint>(
+            &result,
+            [&ctx, &thiz, &file_handle, &dst_c, &length]() {
+                auto data_c = getInboxApi(ctx, thiz)->readFromFile(file_handle, length);
+                auto read = (jint) std::min(data_c.size(), (size_t) length);
+                std::memcpy(dst_c, data_c.data(), read);
+                return read;
+            });
+    if (ctx->ExceptionCheck()) {
+        return 0;
+    }
+    return result;
+}
+
 extern "C"
 JNIEXPORT void JNICALL
 Java_com_simplito_java_privmx_1endpoint_modules_inbox_InboxApi_seekInFile(
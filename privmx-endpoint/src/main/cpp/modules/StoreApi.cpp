@@ -14,6 +14,8 @@
 #include <privmx/endpoint/core/Exception.hpp>
 #include "Connection.h"
 #include "StoreApi.h"
+#include <algorithm>
+#include <cstring>
 #include "../utils.hpp"
 #include "../parser.h"
 #include "../exceptions.h"
@@ -21,35 +23,33 @@
 using namespace privmx::endpoint;
 
 store::StoreApi *getStoreApi(JniContextUtils &ctx, jobject storeApiInstance) {
-    jclass cls = ctx->GetObjectClass(storeApiInstance);
-    jfieldID apiFID = ctx->GetFieldID(cls, "api", "Ljava/lang/Long;");
-    jobject apiLong = ctx->GetObjectField(storeApiInstance, apiFID);
-    if (apiLong == nullptr) {
+    jlong api = ctx->GetLongField(storeApiInstance, privmx::wrapper::jni::cache().storeApiHandle);
+    if (api == 0) {
         throw IllegalStateException("StoreApi cannot be used");
     }
-    return (store::StoreApi *) ctx.getObject(apiLong).getLongValue();
+    return (store::StoreApi *) api;
 }
 
 extern "C"
-JNIEXPORT jobject JNICALL
+JNIEXPORT jlong JNICALL
 Java_com_simplito_java_privmx_1endpoint_modules_store_StoreApi_init(
         JNIEnv *env,
         jobject thiz,
         jobject connection
 ) {
     JniContextUtils ctx(env);
-    jobject result;
-    ctx.callResultEndpointApi<jobject>(
+    jlong result = 0;
+    ctx.callResultEndpointApi<jlong>(
             &result,
             [&ctx, &env, &connection]() {
                 auto connection_c = getConnection(env, connection);
                 auto storeApi = store::StoreApi::create(*connection_c);
                 auto storeApi_ptr = new store::StoreApi();
                 *storeApi_ptr = storeApi;
-                return ctx.long2jLong((jlong) storeApi_ptr);
+                return (jlong) storeApi_ptr;
             });
     if (ctx->ExceptionCheck()) {
-        return nullptr;
+        return 0;
     }
     return result;
 }
@@ -65,12 +65,10 @@ Java_com_simplito_java_privmx_1endpoint_modules_store_StoreApi_deinit(
         //if null go to catch
         auto api = getStoreApi(ctx, thiz);
         delete api;
-        jclass cls = env->GetObjectClass(thiz);
-        jfieldID apiFID = env->GetFieldID(cls, "api", "Ljava/lang/Long;");
-        env->SetObjectField(thiz, apiFID, (jobject) nullptr);
+        env->SetLongField(thiz, privmx::wrapper::jni::cache().storeApiHandle, 0);
     } catch (const IllegalStateException &e) {
         env->ThrowNew(
-                env->FindClass("java/lang/IllegalStateException"),
+                privmx::wrapper::jni::cache().illegalStateException,
                 e.what()
         );
     }
@@ -97,15 +95,8 @@ Java_com_simplito_java_privmx_1endpoint_modules_store_StoreApi_listStores(
     ctx.callResultEndpointApi<jobject>(
             &result,
             [&ctx, &thiz, &context_id, &skip, &limit, &sort_order, &last_id, &query_as_json]() {
-                jclass pagingListCls = ctx->FindClass(
-                        "com/simplito/java/privmx_endpoint/model/PagingList");
-                jmethodID pagingListInitMID = ctx->GetMethodID(pagingListCls, "<init>",
-                                                               "(Ljava/lang/Long;Ljava/util/List;)V"
-                );
-                jclass arrayCls = ctx->FindClass("java/util/ArrayList");
-                jmethodID initArrayMID = ctx->GetMethodID(arrayCls, "<init>", "()V");
-                jmethodID addToArrayMID = ctx->GetMethodID(arrayCls, "add",
-                                                           "(Ljava/lang/Object;)Z");
+                jclass pagingListCls = privmx::wrapper::jni::cache().pagingList.cls;
+                jmethodID pagingListInitMID = privmx::wrapper::jni::cache().pagingList.init;
                 auto query = core::PagingQuery();
                 query.skip = skip;
                 query.limit = limit;
@@ -122,13 +113,11 @@ Java_com_simplito_java_privmx_1endpoint_modules_store_StoreApi_listStores(
                                 query
                         )
                 );
-                jobject array = ctx->NewObject(arrayCls, initArrayMID);
-                for (auto &store_c: stores_c.readItems) {
-                    ctx->CallBooleanMethod(array,
-                                           addToArrayMID,
-                                           privmx::wrapper::store2Java(ctx, store_c)
-                    );
-                }
+                jobject array = ctx.vector2jList(
+                        stores_c.readItems,
+                        [&ctx](const auto &store_c) {
+                            return privmx::wrapper::store2Java(ctx, store_c);
+                        });
                 return ctx->NewObject(
                         pagingListCls,
                         pagingListInitMID,
@@ -268,14 +257,8 @@ Java_com_simplito_java_privmx_1endpoint_modules_store_StoreApi_listFiles(
     ctx.callResultEndpointApi<jobject>(
             &result,
             [&ctx, &thiz, &store_id, &skip, &limit, &sort_order, &last_id, &query_as_json]() {
-                jclass pagingListCls = ctx->FindClass(
-                        "com/simplito/java/privmx_endpoint/model/PagingList");
-                jmethodID pagingListInitMID = ctx->GetMethodID(pagingListCls, "<init>",
-                                                               "(Ljava/lang/Long;Ljava/util/List;)V");
-                jclass arrayCls = ctx->FindClass("java/util/ArrayList");
-                jmethodID initArrayMID = ctx->GetMethodID(arrayCls, "<init>", "()V");
-                jmethodID addToArrayMID = ctx->GetMethodID(arrayCls, "add",
-                                                           "(Ljava/lang/Object;)Z");
+                jclass pagingListCls = privmx::wrapper::jni::cache().pagingList.cls;
+                jmethodID pagingListInitMID = privmx::wrapper::jni::cache().pagingList.init;
                 auto query = core::PagingQuery();
                 query.skip = skip;
                 query.limit = limit;
@@ -291,12 +274,11 @@ Java_com_simplito_java_privmx_1endpoint_modules_store_StoreApi_listFiles(
                                 ctx.jString2string(store_id),
                                 query
                         ));
-                jobject array = ctx->NewObject(arrayCls, initArrayMID);
-                for (auto &file_c: files_c.readItems) {
-                    ctx->CallBooleanMethod(array,
-                                           addToArrayMID,
-                                           privmx::wrapper::file2Java(ctx, file_c));
-                }
+                jobject array = ctx.vector2jList(
+                        files_c.readItems,
+                        [&ctx](const auto &file_c) {
+                            return privmx::wrapper::file2Java(ctx, file_c);
+                        });
                 return ctx->NewObject(
                         pagingListCls,
                         pagingListInitMID,
@@ -438,7 +420,7 @@ Java_com_simplito_java_privmx_1endpoint_modules_store_StoreApi_updateFileMeta(
 
 extern "C"
 JNIEXPORT void JNICALL
-Java_com_simplito_java_privmx_1endpoint_modules_store_StoreApi_writeToFile(
+Java_com_simplito_java_privmx_1endpoint_modules_store_StoreApi_writeToFile__J_3B(
         JNIEnv *env,
         jobject thiz,
         jlong file_handle,
@@ -457,6 +439,32 @@ Java_com_simplito_java_privmx_1endpoint_modules_store_StoreApi_writeToFile(
     });
 }
 
+extern "C"
+JNIEXPORT void JNICALL
+Java_com_simplito_java_privmx_1endpoint_modules_store_StoreApi_writeToFile__JLjava_nio_ByteBuffer_2II(
+        JNIEnv *env,
+        jobject thiz,
+        jlong file_handle,
+        jobject data_chunk,
+        jint offset,
+        jint length
+) {
+    JniContextUtils ctx(env);
+    if (ctx.nullCheck(data_chunk, "Data chunk")) {
+        return;
+    }
+    char *data_chunk_c = ctx.directBufferRegion(data_chunk, offset, length, "Data chunk");
+    if (data_chunk_c == nullptr) {
+        return;
+    }
+    ctx.callVoidEndpointApi([&ctx, &thiz, &file_handle, &data_chunk_c, &length]() {
+        getStoreApi(ctx, thiz)->writeToFile(
+                file_handle,
+                core::Buffer::from(data_chunk_c, length)
+        );
+    });
+}
+
 extern "C"
 JNIEXPORT void JNICALL
 Java_com_simplito_java_privmx_1endpoint_modules_store_StoreApi_updateStore(
@@ -541,7 +549,7 @@ Java_com_simplito_java_privmx_1endpoint_modules_store_StoreApi_openFile(
 
 extern "C"
 JNIEXPORT jbyteArray JNICALL
-Java_com_simplito_java_privmx_1endpoint_modules_store_StoreApi_readFromFile(
+Java_com_simplito_java_privmx_1endpoint_modules_store_StoreApi_readFromFile__JJ(
         JNIEnv *env,
         jobject thiz,
         jlong file_handle,
@@ -550,13 +558,13 @@ Java_com_simplito_java_privmx_1endpoint_modules_store_StoreApi_readFromFile(
     JniContextUtils ctx(env);
     jbyteArray result;
     ctx.callResultEndpointApi<jbyteArray>(&result, [&ctx, &thiz, &file_handle, &length]() {
-        auto data_c = getStoreApi(ctx, thiz)->readFromFile(file_handle, length).stdString();
-        jbyteArray data = ctx->NewByteArray(data_c.length());
+        auto data_c = getStoreApi(ctx, thiz)->readFromFile(file_handle, length);
+        jbyteArray data = ctx->NewByteArray(data_c.size());
         ctx->SetByteArrayRegion(
                 data,
                 0,
-                data_c.length(),
-                (jbyte *) data_c.c_str()
+                data_c.size(),
+                (const jbyte *) data_c.data()
         );
         return data;
     });
@@ -566,6 +574,69 @@ Java_com_simplito_java_privmx_1endpoint_modules_store_StoreApi_readFromFile(
     return result;
 }
 
+extern "C"
+JNIEXPORT jint JNICALL
+Java_com_simplito_java_privmx_1endpoint_modules_store_StoreApi_readFromFile__J_3BII(
+        JNIEnv *env,
+        jobject thiz,
+        jlong file_handle,
+        jbyteArray dst,
+        jint offset,
+        jint length
+) {
+    JniContextUtils ctx(env);
+    if (ctx.nullCheck(dst, "Destination") ||
+        !ctx.regionCheck(ctx->GetArrayLength(dst), offset, length, "Destination")) {
+        return 0;
+    }
+    jint result = 0;
+    ctx.callResultEndpointApi<jint>(
+            &result,
+            [&ctx, &thiz, &file_handle, &dst, &offset, &length]() {
+                auto data_c = getStoreApi(ctx, thiz)->readFromFile(file_handle, length);
+                auto read = (jint) std::min(data_c.size(), (size_t) length);
+                ctx->SetByteArrayRegion(dst, offset, read, (const jbyte *) data_c.data());
+                return read;
+            });
+    if (ctx->ExceptionCheck()) {
+        return 0;
+    }
+    return result;
+}
+
+extern "C"
+JNIEXPORT jint JNICALL
+Java_com_simplito_java_privmx_1endpoint_modules_store_StoreApi_readFromFileDirect(
+        JNIEnv *env,
+        jobject thiz,
+        jlong file_handle,
+        jobject dst,
+        jint offset,
+        jint length
+) {
+    JniContextUtils ctx(env);
+    if (ctx.nullCheck(dst, "Destination")) {
+        return 0;
+    }
+    char *dst_c = ctx.directBufferRegion(dst, offset, length, "Destination");
+    if (dst_c == nullptr) {
+        return 0;
+    }
+    jint result = 0;
+    ctx.callResultEndpointApi<jint>(
+            &result,
+            [&ctx, &thiz, &file_handle, &dst_c, &length]() {
+                auto data_c = getStoreApi(ctx, thiz)->readFromFile(file_handle, length);
+                auto read = (jint) std::min(data_c.size(), (size_t) length);
+                std::memcpy(dst_c, data_c.data(), read);
+                return read;
+            });
+    if (ctx->ExceptionCheck()) {
+        return 0;
+    }
+    return result;
+}
+
 extern "C"
 JNIEXPORT void JNICALL
 Java_com_simplito_java_privmx_1endpoint_modules_store_StoreApi_seekInFile(
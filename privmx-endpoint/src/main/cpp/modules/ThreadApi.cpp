@@ -22,35 +22,33 @@
 using namespace privmx::endpoint;
 
 thread::ThreadApi *getThreadApi(JniContextUtils &ctx, jobject threadApiInstance) {
-    jclass cls = ctx->GetObjectClass(threadApiInstance);
-    jfieldID apiFID = ctx->GetFieldID(cls, "api", "Ljava/lang/Long;");
-    jobject apiLong = ctx->GetObjectField(threadApiInstance, apiFID);
-    if (apiLong == nullptr) {
+    jlong api = ctx->GetLongField(threadApiInstance, privmx::wrapper::jni::cache().threadApiHandle);
+    if (api == 0) {
         throw IllegalStateException("ThreadApi cannot be used");
     }
-    return (thread::ThreadApi *) ctx.getObject(apiLong).getLongValue();
+    return (thread::ThreadApi *) api;
 }
 
 extern "C"
-JNIEXPORT jobject JNICALL
+JNIEXPORT jlong JNICALL
 Java_com_simplito_java_privmx_1endpoint_modules_thread_ThreadApi_init(
         JNIEnv *env,
         jobject thiz,
         jobject connection
 ) {
     JniContextUtils ctx(env);
-    jobject result;
-    ctx.callResultEndpointApi<jobject>(
+    jlong result = 0;
+    ctx.callResultEndpointApi<jlong>(
             &result,
             [&ctx, &env, &connection]() {
                 auto connection_c = getConnection(env, connection);
                 auto threadApi = thread::ThreadApi::create(*connection_c);
                 auto threadApi_ptr = new thread::ThreadApi();
                 *threadApi_ptr = threadApi;
-                return ctx.long2jLong((jlong) threadApi_ptr);
+                return (jlong) threadApi_ptr;
             });
     if (ctx->ExceptionCheck()) {
-        return nullptr;
+        return 0;
     }
     return result;
 }
@@ -66,12 +64,10 @@ Java_com_simplito_java_privmx_1endpoint_modules_thread_ThreadApi_deinit(
         //if null go to catch
         auto api = getThreadApi(ctx, thiz);
         delete api;
-        jclass cls = env->GetObjectClass(thiz);
-        jfieldID apiFID = env->GetFieldID(cls, "api", "Ljava/lang/Long;");
-        env->SetObjectField(thiz, apiFID, (jobject) nullptr);
+        env->SetLongField(thiz, privmx::wrapper::jni::cache().threadApiHandle, 0);
     } catch (const IllegalStateException &e) {
         env->ThrowNew(
-                env->FindClass("java/lang/IllegalStateException"),
+                privmx::wrapper::jni::cache().illegalStateException,
                 e.what()
         );
     }
@@ -171,19 +167,8 @@ Java_com_simplito_java_privmx_1endpoint_modules_thread_ThreadApi_listThreads(
     ctx.callResultEndpointApi<jobject>(
             &result,
             [&ctx, &thiz, &context_id, &skip, &limit, &sort_order, &last_id, &query_as_json]() {
-                jclass pagingListCls = ctx->FindClass(
-                        "com/simplito/java/privmx_endpoint/model/PagingList");
-                jmethodID pagingListInitMID = ctx->GetMethodID(pagingListCls, "<init>",
-                                                               "(Ljava/lang/Long;Ljava/util/List;)V");
-                jclass arrayCls = ctx->FindClass("java/util/ArrayList");
-                jmethodID initArrayMID = ctx->GetMethodID(
-                        arrayCls,
-                        "<init>",
-                        "()V");
-                jmethodID addToArrayMID = ctx->GetMethodID(
-                        arrayCls,
-                        "add",
-                        "(Ljava/lang/Object;)Z");
+                jclass pagingListCls = privmx::wrapper::jni::cache().pagingList.cls;
+                jmethodID pagingListInitMID = privmx::wrapper::jni::cache().pagingList.init;
                 auto query = core::PagingQuery();
                 query.skip = skip;
                 query.limit = limit;
@@ -199,14 +184,11 @@ Java_com_simplito_java_privmx_1endpoint_modules_thread_ThreadApi_listThreads(
                         ctx.jString2string(context_id),
                         query
                 );
-                jobject array = ctx->NewObject(arrayCls, initArrayMID);
-                for (auto &thread_c: threads_c.readItems) {
-                    ctx->CallBooleanMethod(
-                            array,
-                            addToArrayMID,
-                            privmx::wrapper::thread2Java(ctx, thread_c)
-                    );
-                }
+                jobject array = ctx.vector2jList(
+                        threads_c.readItems,
+                        [&ctx](const auto &thread_c) {
+                            return privmx::wrapper::thread2Java(ctx, thread_c);
+                        });
                 return ctx->NewObject(
                         pagingListCls,
                         pagingListInitMID,
@@ -276,14 +258,8 @@ Java_com_simplito_java_privmx_1endpoint_modules_thread_ThreadApi_listMessages(
     ctx.callResultEndpointApi<jobject>(
             &result,
             [&ctx, &thiz, &thread_id, &skip, &limit, &sort_order, &last_id, &query_as_json]() {
-                jclass pagingListCls = ctx->FindClass(
-                        "com/simplito/java/privmx_endpoint/model/PagingList");
-                jmethodID pagingListInitMID = ctx->GetMethodID(pagingListCls, "<init>",
-                                                               "(Ljava/lang/Long;Ljava/util/List;)V");
-                jclass arrayCls = ctx->FindClass("java/util/ArrayList");
-                jmethodID initArrayMID = ctx->GetMethodID(arrayCls, "<init>", "()V");
-                jmethodID addToArrayMID = ctx->GetMethodID(arrayCls, "add",
-                                                           "(Ljava/lang/Object;)Z");
+                jclass pagingListCls = privmx::wrapper::jni::cache().pagingList.cls;
+                jmethodID pagingListInitMID = privmx::wrapper::jni::cache().pagingList.init;
                 auto query = core::PagingQuery();
                 query.skip = skip;
                 query.limit = limit;
@@ -300,12 +276,11 @@ Java_com_simplito_java_privmx_1endpoint_modules_thread_ThreadApi_listMessages(
                         listMessages(
                         ctx.jString2string(thread_id),
                         query);
-                jobject array = ctx->NewObject(arrayCls, initArrayMID);
-                for (auto &threadMessage_c: messages_c.readItems) {
-                    ctx->CallBooleanMethod(array,
-                                           addToArrayMID,
-                                           privmx::wrapper::message2Java(ctx, threadMessage_c));
-                }
+                jobject array = ctx.vector2jList(
+                        messages_c.readItems,
+                        [&ctx](const auto &threadMessage_c) {
+                            return privmx::wrapper::message2Java(ctx, threadMessage_c);
+                        });
                 return ctx->NewObject(
                         pagingListCls,
                         pagingListInitMID,
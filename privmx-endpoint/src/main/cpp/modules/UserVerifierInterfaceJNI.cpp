@@ -13,6 +13,7 @@
 #include "../model_native_initializers.h"
 #include "../utils.hpp"
 #include "../jniUtils.h"
+#include "../jniCache.h"
 #include <thread>
 #include <jni.h>
 #include <iostream>
@@ -22,13 +23,12 @@ privmx::wrapper::UserVerifierInterfaceJNI::UserVerifierInterfaceJNI(
         JNIEnv *env,
         jobject juserVerifierInterface
 ) {
-    jclass juserVerifierInterfaceClass = env->FindClass(
-            "com/simplito/java/privmx_endpoint/modules/core/UserVerifierInterface");
+    jclass juserVerifierInterfaceClass = jni::cache().userVerifierInterface;
     javaVM = nullptr;
     this->juserVerifierInterface = nullptr;
     if (!env->IsInstanceOf(juserVerifierInterface, juserVerifierInterfaceClass)) {
         env->ThrowNew(
-                env->FindClass("java/lang/IllegalArgumentException"),
+                jni::cache().illegalArgumentException,
                 "UserVerifierInterfaceJNI::UserVerifierInterfaceJNI object must be instance of UserVerifierInterface");
         return;
     }
@@ -44,24 +44,13 @@ privmx::wrapper::UserVerifierInterfaceJNI::verify(
             javaVM,
             jni::getPrivmxCallbackThreadName());
     JniContextUtils ctx(env);
-    ctx.setClassLoaderFromObject(juserVerifierInterface);
-    jclass juserVerifierInterfaceClass = env->GetObjectClass(juserVerifierInterface);
-    jmethodID jverifyMID = env->GetMethodID(
-            juserVerifierInterfaceClass,
-            "verify",
-            "(Ljava/util/List;)Ljava/util/List;");
+    jmethodID jverifyMID = jni::cache().userVerifierInterfaceVerify;
 
-    jclass arrayClass = env->FindClass("java/util/ArrayList");
-    jmethodID initArrayMID = env->GetMethodID(
-            arrayClass,
-            "<init>",
-            "()V");
+    jclass arrayClass = jni::cache().arrayList.cls;
+    jmethodID initArrayMID = jni::cache().arrayList.init;
 
     jobject jverificationRequestArray = env->NewObject(arrayClass, initArrayMID);
-    jmethodID addToArrayMID = env->GetMethodID(
-            arrayClass,
-            "add",
-            "(Ljava/lang/Object;)Z");
+    jmethodID addToArrayMID = jni::cache().arrayListAdd;
 
     for (auto &request_c: request) {
         env->CallBooleanMethod(jverificationRequestArray,
@@ -81,7 +70,7 @@ privmx::wrapper::UserVerifierInterfaceJNI::verify(
 
     if (jResult == nullptr) {
         env->ThrowNew(
-                env->FindClass("java/lang/NullPointerException"),
+                jni::cache().nullPointerException,
                 "UserVerifierInterface::verify: The method was expected to return a non-null list, "
                 "but returned null instead. Please verify the logic to ensure a valid list is always returned."
         );
@@ -94,7 +83,7 @@ privmx::wrapper::UserVerifierInterfaceJNI::verify(
         jobject jElement = ctx->GetObjectArrayElement(jArray, i);
         if (jElement == nullptr) {
             env->ThrowNew(
-                    env->FindClass("java/lang/NullPointerException"),
+                    jni::cache().nullPointerException,
                     "UserVerifierInterface::verify: "
                     "The method was expected to return a list of non-null elements, but at least one element is null. "
                     "Please verify the logic to ensure a valid result is always returned."
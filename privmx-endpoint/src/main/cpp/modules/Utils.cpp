@@ -60,10 +60,9 @@ Java_com_simplito_java_privmx_1endpoint_modules_core_utils_Utils_split(
                         ctx.jString2string(data),
                         ctx.jString2string(delimiter));
 
-                jclass arrayListCls = env->FindClass("java/util/ArrayList");
-                jmethodID initMID = env->GetMethodID(arrayListCls, "<init>", "()V");
-                jmethodID addToListMID = env->GetMethodID(arrayListCls, "add",
-                                                          "(Ljava/lang/Object;)Z");
+                jclass arrayListCls = privmx::wrapper::jni::cache().arrayList.cls;
+                jmethodID initMID = privmx::wrapper::jni::cache().arrayList.init;
+                jmethodID addToListMID = privmx::wrapper::jni::cache().arrayListAdd;
                 jobject array = env->NewObject(arrayListCls, initMID);
 
                 for (auto &value: response) {
@@ -0,0 +1,47 @@
+//
+// PrivMX Endpoint Java.
+// Copyright © 2025 Simplito sp. z o.o.
+//
+// This file is part of the PrivMX Platform (https://privmx.dev).
+// This software is Licensed under the MIT License.
+//
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+#include <jni.h>
+#include "nativePayload.h"
+#include "utils.hpp"
+
+using privmx::wrapper::NativePayload;
+using privmx::wrapper::jni::cache;
+
+extern "C"
+JNIEXPORT jbyteArray JNICALL
+Java_com_simplito_java_privmx_1endpoint_model_NativePayload_readField(
+        JNIEnv *env,
+        jclass clazz,
+        jlong ptr,
+        jint index
+) {
+    JniContextUtils ctx(env);
+    auto payload = reinterpret_cast<NativePayload *>(ptr);
+    if (index < 0 || static_cast<size_t>(index) >= payload->fields.size()) {
+        ctx->ThrowNew(cache().illegalArgumentException, "Field index is out of bounds");
+        return nullptr;
+    }
+    const auto &field = payload->fields[index];
+    jbyteArray result = ctx->NewByteArray(field.size());
+    ctx->SetByteArrayRegion(result, 0, field.size(), (jbyte *) field.data());
+    return result;
+}
+
+extern "C"
+JNIEXPORT void JNICALL
+Java_com_simplito_java_privmx_1endpoint_model_NativePayload_releasePayload(
+        JNIEnv *env,
+        jclass clazz,
+        jlong ptr
+) {
+    delete reinterpret_cast<NativePayload *>(ptr);
+}
@@ -0,0 +1,30 @@
+//
+// PrivMX Endpoint Java.
+// Copyright © 2025 Simplito sp. z o.o.
+//
+// This file is part of the PrivMX Platform (https://privmx.dev).
+// This software is Licensed under the MIT License.
+//
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+#ifndef PRIVMXENDPOINT_NATIVEPAYLOAD_H
+#define PRIVMXENDPOINT_NATIVEPAYLOAD_H
+
+#include <vector>
+#include <privmx/endpoint/core/Buffer.hpp>
+
+namespace privmx {
+    namespace wrapper {
+        /**
+         * Byte fields of an event payload owned by Java NativePayload.
+         * Allocated when lazy models are created and deleted by NativePayload.releasePayload.
+         */
+        struct NativePayload {
+            std::vector<privmx::endpoint::core::Buffer> fields;
+        };
+    } // wrapper
+} // privmx
+
+#endif //PRIVMXENDPOINT_NATIVEPAYLOAD_H
@@ -10,24 +10,29 @@
 //
 
 #include "parser.h"
+#include <atomic>
+#include <functional>
+#include <unordered_map>
 
 using namespace privmx::endpoint;
 
 std::vector<privmx::endpoint::core::UserWithPubKey>
 usersToVector(JniContextUtils &ctx, jobjectArray users) {
+    auto &cache = privmx::wrapper::jni::cache();
     std::vector<privmx::endpoint::core::UserWithPubKey> users_c;
-    for (int i = 0; i < ctx->GetArrayLength(users); i++) {
+    jsize length = ctx->GetArrayLength(users);
+    users_c.reserve(length);
+    for (int i = 0; i < length; i++) {
 
         jobject arrayElement = ctx->GetObjectArrayElement(users, i);
-        jclass arrayElementCls = ctx->GetObjectClass(arrayElement);
-
-        jfieldID pubKeyFID = ctx->GetFieldID(arrayElementCls, "pubKey", "Ljava/lang/String;");
-        jfieldID userIdFID = ctx->GetFieldID(arrayElementCls, "userId", "Ljava/lang/String;");
+        jstring userId = (jstring) ctx->GetObjectField(arrayElement, cache.userWithPubKeyUserId);
+        jstring pubKey = (jstring) ctx->GetObjectField(arrayElement, cache.userWithPubKeyPubKey);
         privmx::endpoint::core::UserWithPubKey user = privmx::endpoint::core::UserWithPubKey();
-        user.userId = ctx.jString2string(
-                (jstring) ctx->GetObjectField(arrayElement, userIdFID));
-        user.pubKey = ctx.jString2string(
-                (jstring) ctx->GetObjectField(arrayElement, pubKeyFID));
+        user.userId = ctx.jString2string(userId);
+        user.pubKey = ctx.jString2string(pubKey);
+        ctx->DeleteLocalRef(userId);
+        ctx->DeleteLocalRef(pubKey);
+        ctx->DeleteLocalRef(arrayElement);
 
         users_c.push_back(user);
     }
@@ -39,21 +44,14 @@ parsePKIVerificationOptions(JniContextUtils &ctx, jobject pkiVerificationOptions
     auto result = privmx::endpoint::core::PKIVerificationOptions();
     if (pkiVerificationOptions == nullptr) return result;
 
-    jclass pkiVerificationOptionsClass = ctx->GetObjectClass(pkiVerificationOptions);
-    jfieldID bridgePubKey = ctx->GetFieldID(
-            pkiVerificationOptionsClass,
-            "bridgePubKey",
-            "Ljava/lang/String;");
-    jfieldID bridgeInstanceId = ctx->GetFieldID(
-            pkiVerificationOptionsClass,
-            "bridgeInstanceId",
-            "Ljava/lang/String;");
-
+    auto &cache = privmx::wrapper::jni::cache();
     jstring value;
-    if ((value = (jstring) ctx->GetObjectField(pkiVerificationOptions, bridgePubKey)) != NULL) {
+    if ((value = (jstring) ctx->GetObjectField(
+            pkiVerificationOptions, cache.pkiVerificationOptionsBridgePubKey)) != NULL) {
         result.bridgePubKey = ctx.jString2string(value);
     }
-    if ((value = (jstring) ctx->GetObjectField(pkiVerificationOptions, bridgeInstanceId)) != NULL) {
+    if ((value = (jstring) ctx->GetObjectField(
+            pkiVerificationOptions, cache.pkiVerificationOptionsBridgeInstanceId)) != NULL) {
         result.bridgeInstanceId = ctx.jString2string(value);
     }
 
@@ -64,36 +62,30 @@ privmx::endpoint::core::ContainerPolicyWithoutItem
 parseContainerPolicyWithoutItem(JniContextUtils &ctx, jobject containerPolicyWithoutItem) {
     auto result = privmx::endpoint::core::ContainerPolicyWithoutItem();
     if (containerPolicyWithoutItem == nullptr) return result;
-    jclass policyClass = ctx->GetObjectClass(containerPolicyWithoutItem);
-    jfieldID get = ctx->GetFieldID(policyClass, "get", "Ljava/lang/String;");
-    jfieldID update = ctx->GetFieldID(policyClass, "update", "Ljava/lang/String;");
-    jfieldID delete_ = ctx->GetFieldID(policyClass, "delete", "Ljava/lang/String;");
-    jfieldID updatePolicy = ctx->GetFieldID(policyClass, "updatePolicy", "Ljava/lang/String;");
-    jfieldID updaterCanBeRemovedFromManagers = ctx->GetFieldID(policyClass,
-                                                               "updaterCanBeRemovedFromManagers",
-                                                               "Ljava/lang/String;");
-    jfieldID ownerCanBeRemovedFromManagers = ctx->GetFieldID(policyClass,
-                                                             "ownerCanBeRemovedFromManagers",
-                                                             "Ljava/lang/String;");
+    auto &cache = privmx::wrapper::jni::cache();
     jstring value;
-    if ((value = (jstring) ctx->GetObjectField(containerPolicyWithoutItem, get)) != NULL) {
+    if ((value = (jstring) ctx->GetObjectField(
+            containerPolicyWithoutItem, cache.containerPolicyWithoutItemGet)) != NULL) {
         result.get = ctx.jString2string(value);
     }
-    if ((value = (jstring) ctx->GetObjectField(containerPolicyWithoutItem, update)) != NULL) {
+    if ((value = (jstring) ctx->GetObjectField(
+            containerPolicyWithoutItem, cache.containerPolicyWithoutItemUpdate)) != NULL) {
         result.update = ctx.jString2string(value);
     }
-    if ((value = (jstring) ctx->GetObjectField(containerPolicyWithoutItem, delete_)) != NULL) {
+    if ((value = (jstring) ctx->GetObjectField(
+            containerPolicyWithoutItem, cache.containerPolicyWithoutItemDelete)) != NULL) {
         result.delete_ = ctx.jString2string(value);
     }
-    if ((value = (jstring) ctx->GetObjectField(containerPolicyWithoutItem, updatePolicy)) != NULL) {
+    if ((value = (jstring) ctx->GetObjectField(
+            containerPolicyWithoutItem, cache.containerPolicyWithoutItemUpdatePolicy)) != NULL) {
         result.updatePolicy = ctx.jString2string(value);
     }
-    if ((value = (jstring) ctx->GetObjectField(containerPolicyWithoutItem,
-                                               updaterCanBeRemovedFromManagers)) != NULL) {
+    if ((value = (jstring) ctx->GetObjectField(
+            containerPolicyWithoutItem, cache.containerPolicyWithoutItemUpdaterCanBeRemovedFromManagers)) != NULL) {
         result.updaterCanBeRemovedFromManagers = ctx.jString2string(value);
     }
-    if ((value = (jstring) ctx->GetObjectField(containerPolicyWithoutItem,
-                                               ownerCanBeRemovedFromManagers)) != NULL) {
+    if ((value = (jstring) ctx->GetObjectField(
+            containerPolicyWithoutItem, cache.containerPolicyWithoutItemOwnerCanBeRemovedFromManagers)) != NULL) {
         result.ownerCanBeRemovedFromManagers = ctx.jString2string(value);
     }
     return result;
@@ -104,43 +96,34 @@ parseContainerPolicy(JniContextUtils &ctx, jobject containerPolicy) {
     auto result = privmx::endpoint::core::ContainerPolicy();
     if (containerPolicy == nullptr) return result;
 
-    jclass policyClass = ctx->GetObjectClass(containerPolicy);
-    jfieldID get = ctx->GetFieldID(policyClass, "get", "Ljava/lang/String;");
-    jfieldID update = ctx->GetFieldID(policyClass, "update", "Ljava/lang/String;");
-    jfieldID delete_ = ctx->GetFieldID(policyClass, "delete", "Ljava/lang/String;");
-    jfieldID updatePolicy = ctx->GetFieldID(policyClass, "updatePolicy", "Ljava/lang/String;");
-    jfieldID updaterCanBeRemovedFromManagers = ctx->GetFieldID(policyClass,
-                                                               "updaterCanBeRemovedFromManagers",
-                                                               "Ljava/lang/String;");
-    jfieldID ownerCanBeRemovedFromManagers = ctx->GetFieldID(policyClass,
-                                                             "ownerCanBeRemovedFromManagers",
-                                                             "Ljava/lang/String;");
-
-    jfieldID item = ctx->GetFieldID(policyClass,
-                                    "item",
-                                    "Lcom/simplito/java/privmx_endpoint/model/ItemPolicy;");
+    auto &cache = privmx::wrapper::jni::cache();
     jstring value;
-    if ((value = (jstring) ctx->GetObjectField(containerPolicy, get)) != NULL) {
+    if ((value = (jstring) ctx->GetObjectField(
+            containerPolicy, cache.containerPolicyGet)) != NULL) {
         result.get = ctx.jString2string(value);
     }
-    if ((value = (jstring) ctx->GetObjectField(containerPolicy, update)) != NULL) {
+    if ((value = (jstring) ctx->GetObjectField(
+            containerPolicy, cache.containerPolicyUpdate)) != NULL) {
         result.update = ctx.jString2string(value);
     }
-    if ((value = (jstring) ctx->GetObjectField(containerPolicy, delete_)) != NULL) {
+    if ((value = (jstring) ctx->GetObjectField(
+            containerPolicy, cache.containerPolicyDelete)) != NULL) {
         result.delete_ = ctx.jString2string(value);
     }
-    if ((value = (jstring) ctx->GetObjectField(containerPolicy, updatePolicy)) != NULL) {
+    if ((value = (jstring) ctx->GetObjectField(
+            containerPolicy, cache.containerPolicyUpdatePolicy)) != NULL) {
         result.updatePolicy = ctx.jString2string(value);
     }
-    if ((value = (jstring) ctx->GetObjectField(containerPolicy,
-                                               updaterCanBeRemovedFromManagers)) != NULL) {
+    if ((value = (jstring) ctx->GetObjectField(
+            containerPolicy, cache.containerPolicyUpdaterCanBeRemovedFromManagers)) != NULL) {
         result.updaterCanBeRemovedFromManagers = ctx.jString2string(value);
     }
-    if ((value = (jstring) ctx->GetObjectField(containerPolicy,
-                                               ownerCanBeRemovedFromManagers)) != NULL) {
+    if ((value = (jstring) ctx->GetObjectField(
+            containerPolicy, cache.containerPolicyOwnerCanBeRemovedFromManagers)) != NULL) {
         result.ownerCanBeRemovedFromManagers = ctx.jString2string(value);
     }
-    result.item = parseItemPolicy(ctx, ctx->GetObjectField(containerPolicy, item));
+    result.item = parseItemPolicy(ctx,
+                                  ctx->GetObjectField(containerPolicy, cache.containerPolicyItem));
     return result;
 }
 
@@ -148,65 +131,80 @@ privmx::endpoint::core::ItemPolicy
 parseItemPolicy(JniContextUtils &ctx, jobject itemPolicy) {
     auto result = privmx::endpoint::core::ItemPolicy();
     if (itemPolicy == nullptr) return result;
-    jclass policyClass = ctx->GetObjectClass(itemPolicy);
-    jfieldID get = ctx->GetFieldID(policyClass, "get", "Ljava/lang/String;");
-    jfieldID listMy = ctx->GetFieldID(policyClass, "listMy", "Ljava/lang/String;");
-    jfieldID listAll = ctx->GetFieldID(policyClass, "listAll", "Ljava/lang/String;");
-    jfieldID create = ctx->GetFieldID(policyClass, "create", "Ljava/lang/String;");
-    jfieldID update = ctx->GetFieldID(policyClass, "update", "Ljava/lang/String;");
-    jfieldID delete_ = ctx->GetFieldID(policyClass, "delete", "Ljava/lang/String;");
-
+    auto &cache = privmx::wrapper::jni::cache();
     jstring value;
-    if ((value = (jstring) ctx->GetObjectField(itemPolicy, get)) != NULL) {
+    if ((value = (jstring) ctx->GetObjectField(itemPolicy, cache.itemPolicyGet)) != NULL) {
         result.get = ctx.jString2string(value);
     }
-    if ((value = (jstring) ctx->GetObjectField(itemPolicy, listMy)) != NULL) {
+    if ((value = (jstring) ctx->GetObjectField(itemPolicy, cache.itemPolicyListMy)) != NULL) {
         result.listMy = ctx.jString2string(value);
     }
-    if ((value = (jstring) ctx->GetObjectField(itemPolicy, listAll)) != NULL) {
+    if ((value = (jstring) ctx->GetObjectField(itemPolicy, cache.itemPolicyListAll)) != NULL) {
         result.listAll = ctx.jString2string(value);
     }
-    if ((value = (jstring) ctx->GetObjectField(itemPolicy, create)) != NULL) {
+    if ((value = (jstring) ctx->GetObjectField(itemPolicy, cache.itemPolicyCreate)) != NULL) {
         result.create = ctx.jString2string(value);
     }
-    if ((value = (jstring) ctx->GetObjectField(itemPolicy, update)) != NULL) {
+    if ((value = (jstring) ctx->GetObjectField(itemPolicy, cache.itemPolicyUpdate)) != NULL) {
         result.update = ctx.jString2string(value);
     }
-    if ((value = (jstring) ctx->GetObjectField(itemPolicy, delete_)) != NULL) {
+    if ((value = (jstring) ctx->GetObjectField(itemPolicy, cache.itemPolicyDelete)) != NULL) {
         result.delete_ = ctx.jString2string(value);
     }
     return result;
 }
 
 privmx::endpoint::inbox::FilesConfig parseFilesConfig(JniContextUtils &ctx, jobject filesConfig) {
+    auto &cache = privmx::wrapper::jni::cache();
     auto result = privmx::endpoint::inbox::FilesConfig();
-    jclass filesConfigCls = ctx->FindClass(
-            "com/simplito/java/privmx_endpoint/model/FilesConfig");
-    jfieldID minCountFID = ctx->GetFieldID(filesConfigCls, "minCount", "Ljava/lang/Long;");
-    jfieldID maxCountFID = ctx->GetFieldID(filesConfigCls, "maxCount", "Ljava/lang/Long;");
-    jfieldID maxFileSizeFID = ctx->GetFieldID(filesConfigCls, "maxFileSize", "Ljava/lang/Long;");
-    jfieldID maxWholeUploadSizeFID = ctx->GetFieldID(filesConfigCls, "maxWholeUploadSize",
-                                                     "Ljava/lang/Long;");
-    result.minCount = ctx.getObject(ctx->GetObjectField(filesConfig, minCountFID)).getLongValue();
-    result.maxCount = ctx.getObject(ctx->GetObjectField(filesConfig, maxCountFID)).getLongValue();
+    result.minCount = ctx.getObject(
+            ctx->GetObjectField(filesConfig, cache.filesConfigMinCount)).getLongValue();
+    result.maxCount = ctx.getObject(
+            ctx->GetObjectField(filesConfig, cache.filesConfigMaxCount)).getLongValue();
     result.maxFileSize = ctx.getObject(
-            ctx->GetObjectField(filesConfig, maxFileSizeFID)).getLongValue();
+            ctx->GetObjectField(filesConfig, cache.filesConfigMaxFileSize)).getLongValue();
     result.maxWholeUploadSize = ctx.getObject(
-            ctx->GetObjectField(filesConfig, maxWholeUploadSizeFID)).getLongValue();
+            ctx->GetObjectField(filesConfig, cache.filesConfigMaxWholeUploadSize)).getLongValue();
+    return result;
+}
+
+privmx::wrapper::EventFilter parseEventFilter(JniContextUtils &ctx, jobject eventFilter) {
+    auto &cache = privmx::wrapper::jni::cache();
+    auto result = privmx::wrapper::EventFilter();
+
+    auto forEachElement = [&ctx](jobject list, const std::function<void(jobject)> &consumer) {
+        if (list == nullptr) return;
+        jobjectArray array = ctx.jObject2jArray(list);
+        for (jsize i = 0; i < ctx->GetArrayLength(array); i++) {
+            jobject element = ctx->GetObjectArrayElement(array, i);
+            if (element != nullptr) consumer(element);
+            ctx->DeleteLocalRef(element);
+        }
+    };
+    forEachElement(ctx->GetObjectField(eventFilter, cache.eventFilterTypes),
+                   [&ctx, &result](jobject element) {
+        result.types.insert(ctx.jString2string((jstring) element));
+    });
+    forEachElement(ctx->GetObjectField(eventFilter, cache.eventFilterChannels),
+                   [&ctx, &result](jobject element) {
+        result.channels.insert(ctx.jString2string((jstring) element));
+    });
+    forEachElement(ctx->GetObjectField(eventFilter, cache.eventFilterConnectionIds),
+                   [&ctx, &result](jobject element) {
+        result.connectionIds.insert(ctx.getObject(element).getLongValue());
+    });
     return result;
 }
 
 jobject initEvent(JniContextUtils &ctx, std::string type, std::string channel, int64_t connectionId,
                   jobject data_j) {
     if (type.empty()) return nullptr;
-    jclass eventCls = ctx->FindClass("com/simplito/java/privmx_endpoint/model/Event");
-    jmethodID eventInitMID = ctx->GetMethodID(eventCls, "<init>", "()V");
-    jfieldID eventTypeFieldID = ctx->GetFieldID(eventCls, "type", "Ljava/lang/String;");
-    jfieldID eventDataFieldID = ctx->GetFieldID(eventCls, "data", "Ljava/lang/Object;");
-    jfieldID eventConnectionIdFieldID = ctx->GetFieldID(eventCls, "connectionId",
-                                                        "Ljava/lang/Long;");
-    jfieldID eventChannelFieldID = ctx->GetFieldID(eventCls, "channel", "Ljava/lang/String;");
-    jobject event_j = ctx->NewObject(eventCls, eventInitMID);
+    auto &cache = privmx::wrapper::jni::cache();
+    jfieldID eventTypeFieldID = cache.eventType;
+    jfieldID eventDataFieldID = cache.eventData;
+    jfieldID eventConnectionIdFieldID = cache.eventConnectionId;
+    jfieldID eventChannelFieldID = cache.eventChannel;
+    jobject event_j = ctx->NewObject(cache.event.cls, cache.event.init);
     ctx->SetObjectField(
             event_j,
             eventTypeFieldID,
@@ -230,232 +228,146 @@ jobject initEvent(JniContextUtils &ctx, std::string type, std::string channel, i
     return event_j;
 }
 
+namespace {
+    using EventPtr = std::shared_ptr<privmx::endpoint::core::Event>;
+    using EventDataConverter = jobject (*)(JniContextUtils &ctx, const EventPtr &event);
+
+    std::atomic<bool> lazyPayloads(false);
+
+    jobject message2Java(JniContextUtils &ctx, const privmx::endpoint::thread::Message &message) {
+        return lazyPayloads ? privmx::wrapper::lazyMessage2Java(ctx, message)
+                            : privmx::wrapper::message2Java(ctx, message);
+    }
+
+    jobject file2Java(JniContextUtils &ctx, const privmx::endpoint::store::File &file) {
+        return lazyPayloads ? privmx::wrapper::lazyFile2Java(ctx, file)
+                            : privmx::wrapper::file2Java(ctx, file);
+    }
+
+    /**
+     * Converters of event data keyed by event type, so each event is converted
+     * with a single hash lookup instead of a chain of type checks.
+     */
+    const std::unordered_map<std::string, EventDataConverter> &eventDataConverters() {
+        static const std::unordered_map<std::string, EventDataConverter> converters = {
+                {"contextCustom",
+                        [](JniContextUtils &ctx, const EventPtr &event) -> jobject {
+                            return privmx::wrapper::contextCustomEventData2Java(
+                                    ctx, event::Events::extractContextCustomEvent(event).data);
+                        }},
+                {"threadCreated",
+                        [](JniContextUtils &ctx, const EventPtr &event) -> jobject {
+                            return privmx::wrapper::thread2Java(
+                                    ctx, thread::Events::extractThreadCreatedEvent(event).data);
+                        }},
+                {"threadUpdated",
+                        [](JniContextUtils &ctx, const EventPtr &event) -> jobject {
+                            return privmx::wrapper::thread2Java(
+                                    ctx, thread::Events::extractThreadUpdatedEvent(event).data);
+                        }},
+                {"threadStats",
+                        [](JniContextUtils &ctx, const EventPtr &event) -> jobject {
+                            return privmx::wrapper::threadStatsEventData2Java(
+                                    ctx, thread::Events::extractThreadStatsEvent(event).data);
+                        }},
+                {"threadDeleted",
+                        [](JniContextUtils &ctx, const EventPtr &event) -> jobject {
+                            return privmx::wrapper::threadDeletedEventData2Java(
+                                    ctx, thread::Events::extractThreadDeletedEvent(event).data);
+                        }},
+                {"threadNewMessage",
+                        [](JniContextUtils &ctx, const EventPtr &event) -> jobject {
+                            return message2Java(
+                                    ctx, thread::Events::extractThreadNewMessageEvent(event).data);
+                        }},
+                {"threadUpdatedMessage",
+                        [](JniContextUtils &ctx, const EventPtr &event) -> jobject {
+                            return message2Java(
+                                    ctx, thread::Events::extractThreadMessageUpdatedEvent(event).data);
+                        }},
+                {"threadMessageDeleted",
+                        [](JniContextUtils &ctx, const EventPtr &event) -> jobject {
+                            return privmx::wrapper::threadDeletedMessageEventData2Java(
+                                    ctx, thread::Events::extractThreadMessageDeletedEvent(event).data);
+                        }},
+                {"storeCreated",
+                        [](JniContextUtils &ctx, const EventPtr &event) -> jobject {
+                            return privmx::wrapper::store2Java(
+                                    ctx, store::Events::extractStoreCreatedEvent(event).data);
+                        }},
+                {"storeUpdated",
+                        [](JniContextUtils &ctx, const EventPtr &event) -> jobject {
+                            return privmx::wrapper::store2Java(
+                                    ctx, store::Events::extractStoreUpdatedEvent(event).data);
+                        }},
+                {"storeStatsChanged",
+                        [](JniContextUtils &ctx, const EventPtr &event) -> jobject {
+                            return privmx::wrapper::storeStatsChangedEventData2Java(
+                                    ctx, store::Events::extractStoreStatsChangedEvent(event).data);
+                        }},
+                {"storeDeleted",
+                        [](JniContextUtils &ctx, const EventPtr &event) -> jobject {
+                            return privmx::wrapper::storeDeletedEventData2Java(
+                                    ctx, store::Events::extractStoreDeletedEvent(event).data);
+                        }},
+                {"storeFileCreated",
+                        [](JniContextUtils &ctx, const EventPtr &event) -> jobject {
+                            return file2Java(
+                                    ctx, store::Events::extractStoreFileCreatedEvent(event).data);
+                        }},
+                {"storeFileUpdated",
+                        [](JniContextUtils &ctx, const EventPtr &event) -> jobject {
+                            return file2Java(
+                                    ctx, store::Events::extractStoreFileUpdatedEvent(event).data);
+                        }},
+                {"storeFileDeleted",
+                        [](JniContextUtils &ctx, const EventPtr &event) -> jobject {
+                            return privmx::wrapper::storeFileDeletedEventData2Java(
+                                    ctx, store::Events::extractStoreFileDeletedEvent(event).data);
+                        }},
+                {"inboxCreated",
+                        [](JniContextUtils &ctx, const EventPtr &event) -> jobject {
+                            return privmx::wrapper::inbox2Java(
+                                    ctx, inbox::Events::extractInboxCreatedEvent(event).data);
+                        }},
+                {"inboxUpdated",
+                        [](JniContextUtils &ctx, const EventPtr &event) -> jobject {
+                            return privmx::wrapper::inbox2Java(
+                                    ctx, inbox::Events::extractInboxUpdatedEvent(event).data);
+                        }},
+                {"inboxDeleted",
+                        [](JniContextUtils &ctx, const EventPtr &event) -> jobject {
+                            return privmx::wrapper::inboxDeletedEventData2Java(
+                                    ctx, inbox::Events::extractInboxDeletedEvent(event).data);
+                        }},
+                {"inboxEntryCreated",
+                        [](JniContextUtils &ctx, const EventPtr &event) -> jobject {
+                            return privmx::wrapper::inboxEntry2Java(
+                                    ctx, inbox::Events::extractInboxEntryCreatedEvent(event).data);
+                        }},
+                {"inboxEntryDeleted",
+                        [](JniContextUtils &ctx, const EventPtr &event) -> jobject {
+                            return privmx::wrapper::inboxEntryDeletedEventData2Java(
+                                    ctx, inbox::Events::extractInboxEntryDeletedEvent(event).data);
+                        }}
+        };
+        return converters;
+    }
+}
+
+void setLazyEventPayloads(bool enabled) {
+    lazyPayloads = enabled;
+}
+
 jobject
 parseEvent(JniContextUtils &ctx, std::shared_ptr<privmx::endpoint::core::Event> event) {
-    try {
-        if (event::Events::isContextCustomEvent(event)) {
-            privmx::endpoint::event::ContextCustomEvent event_cast = event::Events::extractContextCustomEvent(
-                    event);
-            return initEvent(
-                    ctx,
-                    event_cast.type,
-                    event_cast.channel,
-                    event_cast.connectionId,
-                    privmx::wrapper::contextCustomEventData2Java(ctx, event_cast.data)
-            );
-        } else if (thread::Events::isThreadCreatedEvent(event)) {
-            privmx::endpoint::thread::ThreadCreatedEvent event_cast = thread::Events::extractThreadCreatedEvent(
-                    event);
-            return initEvent(
-                    ctx,
-                    event_cast.type,
-                    event_cast.channel,
-                    event_cast.connectionId,
-                    privmx::wrapper::thread2Java(ctx, event_cast.data)
-            );
-        } else if (thread::Events::isThreadUpdatedEvent(event)) {
-            privmx::endpoint::thread::ThreadUpdatedEvent event_cast = thread::Events::extractThreadUpdatedEvent(
-                    event);
-            return initEvent(
-                    ctx,
-                    event_cast.type,
-                    event_cast.channel,
-                    event_cast.connectionId,
-                    privmx::wrapper::thread2Java(ctx, event_cast.data)
-            );
-        } else if (thread::Events::isThreadStatsEvent(event)) {
-            privmx::endpoint::thread::ThreadStatsChangedEvent event_cast = thread::Events::extractThreadStatsEvent(
-                    event);
-            return initEvent(
-                    ctx,
-                    event_cast.type,
-                    event_cast.channel,
-                    event_cast.connectionId,
-                    privmx::wrapper::threadStatsEventData2Java(ctx, event_cast.data)
-            );
-        } else if (thread::Events::isThreadDeletedEvent(event)) {
-            privmx::endpoint::thread::ThreadDeletedEvent event_cast = thread::Events::extractThreadDeletedEvent(
-                    event);
-            return initEvent(
-                    ctx,
-                    event_cast.type,
-                    event_cast.channel,
-                    event_cast.connectionId,
-                    privmx::wrapper::threadDeletedEventData2Java(ctx, event_cast.data)
-            );
-        } else if (thread::Events::isThreadNewMessageEvent(event)) {
-            privmx::endpoint::thread::ThreadNewMessageEvent event_cast = thread::Events::extractThreadNewMessageEvent(
-                    event);
-            return initEvent(
-                    ctx,
-                    event_cast.type,
-                    event_cast.channel,
-                    event_cast.connectionId,
-                    privmx::wrapper::message2Java(ctx, event_cast.data)
-            );
-            return nullptr;
-        } else if (thread::Events::isThreadMessageUpdatedEvent(event)) {
-            privmx::endpoint::thread::ThreadMessageUpdatedEvent event_cast = thread::Events::extractThreadMessageUpdatedEvent(
-                    event);
-            return initEvent(
-                    ctx,
-                    event_cast.type,
-                    event_cast.channel,
-                    event_cast.connectionId,
-                    privmx::wrapper::message2Java(ctx, event_cast.data)
-            );
-            return nullptr;
-        } else if (thread::Events::isThreadMessageDeletedEvent(event)) {
-            privmx::endpoint::thread::ThreadMessageDeletedEvent event_cast = thread::Events::extractThreadMessageDeletedEvent(
-                    event);
-            return initEvent(
-                    ctx,
-                    event_cast.type,
-                    event_cast.channel,
-                    event_cast.connectionId,
-                    privmx::wrapper::threadDeletedMessageEventData2Java(ctx, event_cast.data)
-            );
-        } else if (store::Events::isStoreCreatedEvent(event)) {
-            privmx::endpoint::store::StoreCreatedEvent event_cast = store::Events::extractStoreCreatedEvent(
-                    event);
-            return initEvent(
-                    ctx,
-                    event_cast.type,
-                    event_cast.channel,
-                    event_cast.connectionId,
-                    privmx::wrapper::store2Java(ctx, event_cast.data)
-            );
-        } else if (store::Events::isStoreUpdatedEvent(event)) {
-            privmx::endpoint::store::StoreUpdatedEvent event_cast = store::Events::extractStoreUpdatedEvent(
-                    event);
-            return initEvent(
-                    ctx,
-                    event_cast.type,
-                    event_cast.channel,
-                    event_cast.connectionId,
-                    privmx::wrapper::store2Java(ctx, event_cast.data)
-            );
-        } else if (store::Events::isStoreStatsChangedEvent(event)) {
-            privmx::endpoint::store::StoreStatsChangedEvent event_cast = store::Events::extractStoreStatsChangedEvent(
-                    event);
-            return initEvent(
-                    ctx,
-                    event_cast.type,
-                    event_cast.channel,
-                    event_cast.connectionId,
-                    privmx::wrapper::storeStatsChangedEventData2Java(ctx, event_cast.data)
-            );
-        } else if (store::Events::isStoreUpdatedEvent(event)) {
-            privmx::endpoint::store::StoreUpdatedEvent event_cast = store::Events::extractStoreUpdatedEvent(
-                    event);
-            return initEvent(
-                    ctx,
-                    event_cast.type,
-                    event_cast.channel,
-                    event_cast.connectionId,
-                    privmx::wrapper::store2Java(ctx, event_cast.data)
-            );
-        } else if (store::Events::isStoreDeletedEvent(event)) {
-            privmx::endpoint::store::StoreDeletedEvent event_cast = store::Events::extractStoreDeletedEvent(
-                    event);
-            return initEvent(
-                    ctx,
-                    event_cast.type,
-                    event_cast.channel,
-                    event_cast.connectionId,
-                    privmx::wrapper::storeDeletedEventData2Java(ctx, event_cast.data)
-            );
-        } else if (store::Events::isStoreFileCreatedEvent(event)) {
-            privmx::endpoint::store::StoreFileCreatedEvent event_cast = store::Events::extractStoreFileCreatedEvent(
-                    event);
-            return initEvent(
-                    ctx,
-                    event_cast.type,
-                    event_cast.channel,
-                    event_cast.connectionId,
-                    privmx::wrapper::file2Java(ctx, event_cast.data)
-            );
-        } else if (store::Events::isStoreFileUpdatedEvent(event)) {
-            privmx::endpoint::store::StoreFileUpdatedEvent event_cast = store::Events::extractStoreFileUpdatedEvent(
-                    event);
-            return initEvent(
-                    ctx,
-                    event_cast.type,
-                    event_cast.channel,
-                    event_cast.connectionId,
-                    privmx::wrapper::file2Java(ctx, event_cast.data)
-            );
-        } else if (store::Events::isStoreFileDeletedEvent(event)) {
-            privmx::endpoint::store::StoreFileDeletedEvent event_cast = store::Events::extractStoreFileDeletedEvent(
-                    event);
-            return initEvent(
-                    ctx,
-                    event_cast.type,
-                    event_cast.channel,
-                    event_cast.connectionId,
-                    privmx::wrapper::storeFileDeletedEventData2Java(ctx, event_cast.data)
-            );
-        } else if (inbox::Events::isInboxCreatedEvent(event)) {
-            privmx::endpoint::inbox::InboxCreatedEvent event_cast = inbox::Events::extractInboxCreatedEvent(
-                    event);
-            return initEvent(
-                    ctx,
-                    event_cast.type,
-                    event_cast.channel,
-                    event_cast.connectionId,
-                    privmx::wrapper::inbox2Java(ctx, event_cast.data)
-            );
-        } else if (inbox::Events::isInboxUpdatedEvent(event)) {
-            privmx::endpoint::inbox::InboxUpdatedEvent event_cast = inbox::Events::extractInboxUpdatedEvent(
-                    event);
-            return initEvent(
-                    ctx,
-                    event_cast.type,
-                    event_cast.channel,
-                    event_cast.connectionId,
-                    privmx::wrapper::inbox2Java(ctx, event_cast.data)
-            );
-        } else if (inbox::Events::isInboxDeletedEvent(event)) {
-            privmx::endpoint::inbox::InboxDeletedEvent event_cast = inbox::Events::extractInboxDeletedEvent(
-                    event);
-            return initEvent(
-                    ctx,
-                    event_cast.type,
-                    event_cast.channel,
-                    event_cast.connectionId,
-                    privmx::wrapper::inboxDeletedEventData2Java(ctx, event_cast.data)
-            );
-        } else if (inbox::Events::isInboxEntryCreatedEvent(event)) {
-            privmx::endpoint::inbox::InboxEntryCreatedEvent event_cast = inbox::Events::extractInboxEntryCreatedEvent(
-                    event);
-            return initEvent(
-                    ctx,
-                    event_cast.type,
-                    event_cast.channel,
-                    event_cast.connectionId,
-                    privmx::wrapper::inboxEntry2Java(ctx, event_cast.data)
-            );
-        } else if (inbox::Events::isInboxEntryDeletedEvent(event)) {
-            privmx::endpoint::inbox::InboxEntryDeletedEvent event_cast = inbox::Events::extractInboxEntryDeletedEvent(
-                    event);
-            return initEvent(
-                    ctx,
-                    event_cast.type,
-                    event_cast.channel,
-                    event_cast.connectionId,
-                    privmx::wrapper::inboxEntryDeletedEventData2Java(ctx, event_cast.data)
-            );
-        } else {
-            return initEvent(
-                    ctx,
-                    event->type,
-                    event->channel,
-                    event->connectionId,
-                    nullptr
-            );
-        }
-    } catch (const std::exception &e) {
-        throw e;
-    }
-    return nullptr;
-}
\ No newline at end of file
+    auto &converters = eventDataConverters();
+    auto converter = converters.find(event->type);
+    return initEvent(
+            ctx,
+            event->type,
+            event->channel,
+            event->connectionId,
+            converter == converters.end() ? nullptr : converter->second(ctx, event)
+    );
+}
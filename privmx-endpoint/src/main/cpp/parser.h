@@ -16,6 +16,7 @@
 
 #include <jni.h>
 #include "model_native_initializers.h"
+#include "eventBuffer.h"
 
 std::vector<privmx::endpoint::core::UserWithPubKey>
 usersToVector(JniContextUtils &ctx, jobjectArray users);
@@ -33,6 +34,13 @@ privmx::endpoint::core::ItemPolicy parseItemPolicy(JniContextUtils &ctx, jobject
 
 privmx::endpoint::inbox::FilesConfig parseFilesConfig(JniContextUtils &ctx, jobject filesConfig);
 
+privmx::wrapper::EventFilter parseEventFilter(JniContextUtils &ctx, jobject eventFilter);
+
+/**
+ * Enables conversion of message and file events to LazyMessage and LazyFile.
+ */
+void setLazyEventPayloads(bool enabled);
+
 jobject parseEvent(JniContextUtils &ctx, std::shared_ptr<privmx::endpoint::core::Event> event);
 
 
@@ -11,7 +11,6 @@
 
 #include "utils.hpp"
 
-void replace_all(std::string &input, const std::string &from, const std::string &to);
 
 std::string JniContextUtils::jString2string(jstring str) {
     const char *tmp = _env->GetStringUTFChars(str, NULL);
@@ -29,31 +28,25 @@ std::string JniContextUtils::jByteArray2String(jbyteArray arr) {
 }
 
 jobjectArray JniContextUtils::jObject2jArray(jobject obj) {
-    jclass objClass = _env->GetObjectClass(obj);
-    if (_env->IsInstanceOf(obj, _env->FindClass("java/util/List"))) {
-        jmethodID mToArray = _env->GetMethodID(objClass, "toArray", "()[Ljava/lang/Object;");
-
-        if (mToArray == nullptr) return nullptr;
-        return (jobjectArray) _env->CallObjectMethod(obj, mToArray);
+    auto &cache = privmx::wrapper::jni::cache();
+    if (_env->IsInstanceOf(obj, cache.list)) {
+        return (jobjectArray) _env->CallObjectMethod(obj, cache.listToArray);
     } else return nullptr;
 }
 
 jobject JniContextUtils::long2jLong(long long value) {
-    jclass longCls = _env->FindClass("java/lang/Long");
-    jmethodID longInitMethodID = _env->GetMethodID(longCls, "<init>", "(J)V");
-    return _env->NewObject(longCls, longInitMethodID, (jlong) value);
+    auto &javaLong = privmx::wrapper::jni::cache().javaLong;
+    return _env->NewObject(javaLong.cls, javaLong.init, (jlong) value);
 }
 
 jobject JniContextUtils::bool2jBoolean(bool value) {
-    jclass longCls = _env->FindClass("java/lang/Boolean");
-    jmethodID longInitMethodID = _env->GetMethodID(longCls, "<init>", "(Z)V");
-    return _env->NewObject(longCls, longInitMethodID, (jboolean) value);
+    auto &javaBoolean = privmx::wrapper::jni::cache().javaBoolean;
+    return _env->NewObject(javaBoolean.cls, javaBoolean.init, (jboolean) value);
 }
 
 jobject JniContextUtils::int2jInteger(int value) {
-    jclass longCls = _env->FindClass("java/lang/Integer");
-    jmethodID longInitMethodID = _env->GetMethodID(longCls, "<init>", "(I)V");
-    return _env->NewObject(longCls, longInitMethodID, (jint) value);
+    auto &javaInteger = privmx::wrapper::jni::cache().javaInteger;
+    return _env->NewObject(javaInteger.cls, javaInteger.init, (jint) value);
 }
 
 JniContextUtils::Object JniContextUtils::getObject(jobject obj) {
@@ -62,13 +55,10 @@ JniContextUtils::Object JniContextUtils::getObject(jobject obj) {
 
 jthrowable
 JniContextUtils::coreException2jthrowable(privmx::endpoint::core::Exception exception_c) {
-    jclass exceptionCls = _env->FindClass(
-            "com/simplito/java/privmx_endpoint/model/exceptions/PrivmxException");
-    jmethodID initExceptionMID = _env->GetMethodID(exceptionCls, "<init>",
-                                                   "(Ljava/lang/String;Ljava/lang/String;Ljava/lang/String;I)V");
+    auto &privmxException = privmx::wrapper::jni::cache().privmxException;
     return (jthrowable) _env->NewObject(
-            exceptionCls,
-            initExceptionMID,
+            privmxException.cls,
+            privmxException.init,
             _env->NewStringUTF(exception_c.what()),
             _env->NewStringUTF(exception_c.getDescription().c_str()),
             _env->NewStringUTF(exception_c.getScope().c_str()),
@@ -76,36 +66,22 @@ JniContextUtils::coreException2jthrowable(privmx::endpoint::core::Exception exce
     );
 }
 
-JniContextUtils::Object::Object(JniContextUtils &env, jobject obj) : _env(env), _obj(obj) {
-    _objCls = _env->GetObjectClass(obj);
-}
-
-JniContextUtils::Object::~Object() {
-    _env->DeleteLocalRef(_objCls);
-}
+JniContextUtils::Object::Object(JniContextUtils &env, jobject obj) : _env(env), _obj(obj) {}
 
-std::string JniContextUtils::Object::getFieldAsString(const std::string &name) {
-    jstring jValue = (jstring) _env->GetObjectField(_obj, _env->GetFieldID(_objCls, name.c_str(),
-                                                                           "Ljava/lang/String;"));
-    std::string value = _env.jString2string(jValue);
-    _env->DeleteLocalRef(jValue);
-    return value;
-}
+JniContextUtils::Object::~Object() {}
 
 jlong JniContextUtils::Object::getLongValue() {
-    jmethodID longValue = _env->GetMethodID(_objCls, "longValue", "()J");
-    return _env->CallLongMethod(_obj, longValue);
+    return _env->CallLongMethod(_obj, privmx::wrapper::jni::cache().javaLongValue);
 }
 
 jboolean JniContextUtils::Object::getBooleanValue() {
-    jmethodID booleanValue = _env->GetMethodID(_objCls, "booleanValue", "()Z");
-    return _env->CallBooleanMethod(_obj, booleanValue);
+    return _env->CallBooleanMethod(_obj, privmx::wrapper::jni::cache().javaBooleanValue);
 }
 
 bool JniContextUtils::nullCheck(void *value, std::string value_name) {
     if (value == nullptr) {
         _env->ThrowNew(
-                _env->FindClass("java/lang/NullPointerException"),
+                privmx::wrapper::jni::cache().nullPointerException,
                 (value_name + " cannot be null").c_str()
         );
         return true;
@@ -113,6 +89,37 @@ bool JniContextUtils::nullCheck(void *value, std::string value_name) {
     return false;
 }
 
+char *JniContextUtils::directBufferRegion(
+        jobject buffer,
+        jint offset,
+        jint length,
+        std::string value_name
+) {
+    auto address = (char *) _env->GetDirectBufferAddress(buffer);
+    if (address == nullptr) {
+        _env->ThrowNew(
+                privmx::wrapper::jni::cache().illegalArgumentException,
+                (value_name + " must be a direct ByteBuffer").c_str()
+        );
+        return nullptr;
+    }
+    if (!regionCheck(_env->GetDirectBufferCapacity(buffer), offset, length, value_name)) {
+        return nullptr;
+    }
+    return address + offset;
+}
+
+bool JniContextUtils::regionCheck(jlong capacity, jint offset, jint length, std::string value_name) {
+    if (offset < 0 || length < 0 || (jlong) offset + length > capacity) {
+        _env->ThrowNew(
+                privmx::wrapper::jni::cache().illegalArgumentException,
+                (value_name + " region is out of bounds").c_str()
+        );
+        return false;
+    }
+    return true;
+}
+
 void JniContextUtils::callVoidEndpointApi(const std::function<void()> &fun) {
     try {
         fun();
@@ -120,56 +127,18 @@ void JniContextUtils::callVoidEndpointApi(const std::function<void()> &fun) {
         _env->Throw(coreException2jthrowable(e));
     } catch (const IllegalStateException &e) {
         _env->ThrowNew(
-                _env->FindClass("java/lang/IllegalStateException"),
+                privmx::wrapper::jni::cache().illegalStateException,
                 e.what()
         );
     } catch (const std::exception &e) {
         _env->ThrowNew(
-                _env->FindClass(
-                        "com/simplito/java/privmx_endpoint/model/exceptions/NativeException"),
+                privmx::wrapper::jni::cache().nativeException,
                 e.what()
         );
     } catch (...) {
         _env->ThrowNew(
-                _env->FindClass(
-                        "com/simplito/java/privmx_endpoint/model/exceptions/NativeException"),
+                privmx::wrapper::jni::cache().nativeException,
                 "Unknown exception"
         );
     }
 }
-
-jclass JniContextUtils::findClass(const char *name) {
-    if (jclassLoader == nullptr) {
-        return _env->FindClass(name);
-    }
-    std::string nameStr(name);
-    replace_all(nameStr, "/", ".");
-    const char *binaryName = nameStr.c_str();
-    auto classLoaderClass = _env->FindClass("java/lang/ClassLoader");
-    auto gFindClassMethod = _env->GetMethodID(
-            classLoaderClass,
-            "loadClass",
-            "(Ljava/lang/String;)Ljava/lang/Class;");
-    return static_cast<jclass>(_env->CallObjectMethod(
-            jclassLoader,
-            gFindClassMethod,
-            _env->NewStringUTF(binaryName)));
-}
-
-void JniContextUtils::setClassLoaderFromObject(jobject object) {
-    auto objectClass = _env->GetObjectClass(object);
-    jclass classClass = _env->GetObjectClass(objectClass);
-    auto getClassLoaderMethod = _env->GetMethodID(
-            classClass,
-            "getClassLoader",
-            "()Ljava/lang/ClassLoader;");
-    jclassLoader = _env->CallObjectMethod(objectClass, getClassLoaderMethod);
-}
-
-void replace_all(std::string &input, const std::string &from, const std::string &to) {
-    size_t pos = 0;
-    while ((pos = input.find(from, pos)) != std::string::npos) {
-        input.replace(pos, from.size(), to);
-        pos += to.size();
-    }
-}
\ No newline at end of file
@@ -15,9 +15,11 @@
 #include <string>
 #include <jni.h>
 #include <functional>
+#include <vector>
 #include <privmx/endpoint/core/Exception.hpp>
 #include "privmx/endpoint/core/Exception.hpp"
 #include "exceptions.h"
+#include "jniCache.h"
 
 class JniContextUtils {
 public:
@@ -27,15 +29,12 @@ public:
 
         ~Object();
 
-        std::string getFieldAsString(const std::string &name);
-
         jlong getLongValue();
 
         jboolean getBooleanValue();
 
     private:
         jobject _obj;
-        jclass _objCls;
         JniContextUtils &_env;
     };
 
@@ -61,6 +60,50 @@ public:
 
     bool nullCheck(void *value, std::string value_name);
 
+    /**
+    * Returns address of the given region of a direct java.nio.ByteBuffer.
+    * Throws IllegalArgumentException and returns nullptr if the buffer is not direct
+    * or the region exceeds its capacity.
+    */
+    char *directBufferRegion(jobject buffer, jint offset, jint length, std::string value_name);
+
+    /**
+    * Checks if region fits into array of given length.
+    * Throws IllegalArgumentException and returns false if it does not.
+    */
+    bool regionCheck(jlong capacity, jint offset, jint length, std::string value_name);
+
+    /**
+    * Converts vector to java.util.ArrayList created with the vector size as initial capacity.
+    * Each element is converted inside its own local reference frame, so the number of live
+    * local references does not grow with the list size. Elements converted to null are skipped.
+    * Returns nullptr if a Java exception is pending.
+    */
+    template<typename T, typename Converter>
+    jobject vector2jList(const std::vector<T> &items, Converter convert) {
+        const auto &cache = privmx::wrapper::jni::cache();
+        jobject list = _env->NewObject(
+                cache.arrayList.cls,
+                cache.arrayListInitCapacity,
+                (jint) items.size());
+        if (list == nullptr) return nullptr;
+        for (auto &item: items) {
+            if (_env->PushLocalFrame(ELEMENT_FRAME_CAPACITY) != JNI_OK) return nullptr;
+            try {
+                jobject element = convert(item);
+                if (element != nullptr && !_env->ExceptionCheck()) {
+                    _env->CallBooleanMethod(list, cache.arrayListAdd, element);
+                }
+            } catch (...) {
+                _env->PopLocalFrame(nullptr);
+                throw;
+            }
+            _env->PopLocalFrame(nullptr);
+            if (_env->ExceptionCheck()) return nullptr;
+        }
+        return list;
+    }
+
     template<typename T>
     void callResultEndpointApi(T *result, const std::function<T()> &fun) {
         try {
@@ -69,19 +112,17 @@ public:
             _env->Throw(coreException2jthrowable(e));
         } catch (const IllegalStateException &e) {
             _env->ThrowNew(
-                    _env->FindClass("java/lang/IllegalStateException"),
+                    privmx::wrapper::jni::cache().illegalStateException,
                     e.what()
             );
         } catch (const std::exception &e) {
             _env->ThrowNew(
-                    _env->FindClass(
-                            "com/simplito/java/privmx_endpoint/model/exceptions/NativeException"),
+                    privmx::wrapper::jni::cache().nativeException,
                     e.what()
             );
         } catch (...) {
             _env->ThrowNew(
-                    _env->FindClass(
-                            "com/simplito/java/privmx_endpoint/model/exceptions/NativeException"),
+                    privmx::wrapper::jni::cache().nativeException,
                     "Unknown exception"
             );
         }
@@ -89,19 +130,10 @@ public:
 
     void callVoidEndpointApi(const std::function<void()> &fun);
 
-    /**
-    * Returns class for given name.
-    * This implementation uses class loader (set with setClassLoaderFromObject method)
-    * to find class with given name.
-    * If classLoader is null returns jclass using env->FindClass().
-    */
-    jclass findClass(const char *name);
-
-    void setClassLoaderFromObject(jobject object);
-
 private:
+    static constexpr jint ELEMENT_FRAME_CAPACITY = 32;
+
     JNIEnv *_env;
-    jobject jclassLoader;
 };
 
 #endif //PRIVMX_PRIVMXPOCKETLIB_UTILS_HPP
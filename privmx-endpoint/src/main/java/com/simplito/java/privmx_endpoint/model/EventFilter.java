@@ -0,0 +1,58 @@
+//
+// PrivMX Endpoint Java.
+// Copyright © 2025 Simplito sp. z o.o.
+//
+// This file is part of the PrivMX Platform (https://privmx.dev).
+// This software is Licensed under the MIT License.
+//
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+package com.simplito.java.privmx_endpoint.model;
+
+import java.util.List;
+
+/**
+ * Filter evaluated natively before events are converted to Java objects.
+ * An event passes the filter when it matches every non-empty criterion.
+ * Library events (with type starting with {@code lib}) always pass.
+ *
+ * @category core
+ * @group Events
+ */
+public class EventFilter {
+    /**
+     * Accepted event types, {@code null} or empty to accept any type.
+     */
+    public List<String> types;
+
+    /**
+     * Accepted event channels, {@code null} or empty to accept any channel.
+     */
+    public List<String> channels;
+
+    /**
+     * Accepted connection IDs, {@code null} or empty to accept any connection.
+     */
+    public List<Long> connectionIds;
+
+    /**
+     * Creates instance of {@code EventFilter}.
+     */
+    public EventFilter() {
+    }
+
+    /**
+     * Creates instance of {@code EventFilter}.
+     *
+     * @param types         accepted event types
+     * @param channels      accepted event channels
+     * @param connectionIds accepted connection IDs
+     */
+    public EventFilter(List<String> types, List<String> channels, List<Long> connectionIds) {
+        this.types = types;
+        this.channels = channels;
+        this.connectionIds = connectionIds;
+    }
+}
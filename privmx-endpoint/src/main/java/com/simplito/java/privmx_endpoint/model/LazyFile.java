@@ -0,0 +1,78 @@
+//
+// PrivMX Endpoint Java.
+// Copyright © 2025 Simplito sp. z o.o.
+//
+// This file is part of the PrivMX Platform (https://privmx.dev).
+// This software is Licensed under the MIT License.
+//
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+package com.simplito.java.privmx_endpoint.model;
+
+/**
+ * File delivered in events when lazy payloads are enabled.
+ * Server info, size, author and status are available immediately, while {@code publicMeta}
+ * and {@code privateMeta} stay in native memory and are assigned to their fields
+ * on first call of the corresponding getter.
+ *
+ * @category store
+ * @group Store
+ */
+public class LazyFile extends File implements AutoCloseable {
+    private static final int PUBLIC_META = 0;
+    private static final int PRIVATE_META = 1;
+
+    private final NativePayload payload;
+
+    /**
+     * Creates instance of {@code LazyFile}.
+     *
+     * @param info          File's information created by server.
+     * @param size          File's size.
+     * @param authorPubKey  Public key of the author of the file.
+     * @param statusCode    Status code of retrieval and decryption of the file.
+     * @param schemaVersion Version of the file data structure and how it is encoded/encrypted.
+     * @param payloadPtr    Pointer to native payload with public and private meta.
+     */
+    LazyFile(
+            ServerFileInfo info,
+            Long size,
+            String authorPubKey,
+            Long statusCode,
+            Long schemaVersion,
+            long payloadPtr
+    ) {
+        super(info, null, null, size, authorPubKey, statusCode, schemaVersion);
+        this.payload = new NativePayload(this, payloadPtr, 2);
+    }
+
+    /**
+     * Returns file's public metadata, reading it from native memory on first call.
+     *
+     * @return file's public metadata
+     * @throws IllegalStateException when the file was closed before the field was read
+     */
+    public byte[] getPublicMeta() {
+        return publicMeta = payload.get(PUBLIC_META);
+    }
+
+    /**
+     * Returns file's private metadata, reading it from native memory on first call.
+     *
+     * @return file's private metadata
+     * @throws IllegalStateException when the file was closed before the field was read
+     */
+    public byte[] getPrivateMeta() {
+        return privateMeta = payload.get(PRIVATE_META);
+    }
+
+    /**
+     * Releases native memory of fields that were not read yet.
+     */
+    @Override
+    public void close() {
+        payload.release();
+    }
+}
@@ -0,0 +1,87 @@
+//
+// PrivMX Endpoint Java.
+// Copyright © 2025 Simplito sp. z o.o.
+//
+// This file is part of the PrivMX Platform (https://privmx.dev).
+// This software is Licensed under the MIT License.
+//
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+package com.simplito.java.privmx_endpoint.model;
+
+/**
+ * Message delivered in events when lazy payloads are enabled.
+ * Server info, author and status are available immediately, while {@code publicMeta},
+ * {@code privateMeta} and {@code data} stay in native memory and are assigned
+ * to their fields on first call of the corresponding getter.
+ *
+ * @category thread
+ * @group Thread
+ */
+public class LazyMessage extends Message implements AutoCloseable {
+    private static final int PUBLIC_META = 0;
+    private static final int PRIVATE_META = 1;
+    private static final int DATA = 2;
+
+    private final NativePayload payload;
+
+    /**
+     * Creates instance of {@code LazyMessage}.
+     *
+     * @param info          Message's information created by server.
+     * @param authorPubKey  Public key of the author of the message.
+     * @param statusCode    Status code of retrieval and decryption of the {@code Message}.
+     * @param schemaVersion Version of the Message data structure and how it is encoded/encrypted.
+     * @param payloadPtr    Pointer to native payload with public meta, private meta and data.
+     */
+    LazyMessage(
+            ServerMessageInfo info,
+            String authorPubKey,
+            Long statusCode,
+            Long schemaVersion,
+            long payloadPtr
+    ) {
+        super(info, null, null, null, authorPubKey, statusCode, schemaVersion);
+        this.payload = new NativePayload(this, payloadPtr, 3);
+    }
+
+    /**
+     * Returns Message's public metadata, reading it from native memory on first call.
+     *
+     * @return Message's public metadata
+     * @throws IllegalStateException when the message was closed before the field was read
+     */
+    public byte[] getPublicMeta() {
+        return publicMeta = payload.get(PUBLIC_META);
+    }
+
+    /**
+     * Returns Message's private metadata, reading it from native memory on first call.
+     *
+     * @return Message's private metadata
+     * @throws IllegalStateException when the message was closed before the field was read
+     */
+    public byte[] getPrivateMeta() {
+        return privateMeta = payload.get(PRIVATE_META);
+    }
+
+    /**
+     * Returns Message's data, reading it from native memory on first call.
+     *
+     * @return Message's data
+     * @throws IllegalStateException when the message was closed before the field was read
+     */
+    public byte[] getData() {
+        return data = payload.get(DATA);
+    }
+
+    /**
+     * Releases native memory of fields that were not read yet.
+     */
+    @Override
+    public void close() {
+        payload.release();
+    }
+}
@@ -0,0 +1,128 @@
+//
+// PrivMX Endpoint Java.
+// Copyright © 2025 Simplito sp. z o.o.
+//
+// This file is part of the PrivMX Platform (https://privmx.dev).
+// This software is Licensed under the MIT License.
+//
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+package com.simplito.java.privmx_endpoint.model;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Byte fields of an event payload kept in native memory until they are read.
+ * The native memory is released after all fields are read, on {@link #release()},
+ * or after the owning model becomes unreachable. Unreachable owners are released
+ * by a daemon thread waiting on the reference queue, and also when next payload is created.
+ */
+final class NativePayload {
+    static {
+        System.loadLibrary("privmx-endpoint-java");
+    }
+
+    private static final ReferenceQueue<Object> unreachable = new ReferenceQueue<>();
+    private static final Set<Handle> handles = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    static {
+        java.lang.Thread cleaner = new java.lang.Thread(NativePayload::releaseUnreachableLoop, "NativePayloadCleaner");
+        cleaner.setDaemon(true);
+        cleaner.start();
+    }
+
+    private final Handle handle;
+    private final byte[][] fields;
+    private int remaining;
+
+    /**
+     * Takes ownership of native payload.
+     *
+     * @param owner      model exposing the payload fields
+     * @param ptr        native payload pointer
+     * @param fieldCount number of byte fields in the payload
+     */
+    NativePayload(Object owner, long ptr, int fieldCount) {
+        releaseUnreachable();
+        this.handle = new Handle(owner, ptr);
+        this.fields = new byte[fieldCount][];
+        this.remaining = fieldCount;
+        handles.add(handle);
+    }
+
+    /**
+     * Returns field copied from native memory on first access.
+     *
+     * @param index index of the field
+     * @return field value
+     * @throws IllegalStateException when the payload was released before the field was read
+     */
+    synchronized byte[] get(int index) {
+        if (fields[index] == null) {
+            fields[index] = handle.read(index);
+            if (--remaining == 0) {
+                handle.release();
+            }
+        }
+        return fields[index];
+    }
+
+    /**
+     * Releases native memory. Fields that were not read become unavailable.
+     */
+    void release() {
+        handle.release();
+    }
+
+    private static void releaseUnreachable() {
+        Reference<?> reference;
+        while ((reference = unreachable.poll()) != null) {
+            ((Handle) reference).release();
+        }
+    }
+
+    private static void releaseUnreachableLoop() {
+        while (true) {
+            try {
+                ((Handle) unreachable.remove()).release();
+            } catch (InterruptedException | RuntimeException ignored) {
+                // The cleaner has to outlive failures of single payloads
+            }
+        }
+    }
+
+    private static native byte[] readField(long ptr, int index);
+
+    private static native void releasePayload(long ptr);
+
+    private static final class Handle extends PhantomReference<Object> {
+        private long ptr;
+
+        Handle(Object owner, long ptr) {
+            super(owner, unreachable);
+            this.ptr = ptr;
+        }
+
+        synchronized byte[] read(int index) {
+            if (ptr == 0) {
+                throw new IllegalStateException("Payload is released");
+            }
+            return readField(ptr, index);
+        }
+
+        synchronized void release() {
+            if (ptr != 0) {
+                releasePayload(ptr);
+                ptr = 0;
+                handles.remove(this);
+            }
+        }
+    }
+}
@@ -30,9 +30,9 @@ public class Connection implements AutoCloseable {
         System.loadLibrary("privmx-endpoint-java");
     }
 
-    private final Long api;
+    private long api;
 
-    private Connection(Long api) {
+    private Connection(long api) {
         this.api = api;
     }
 
@@ -246,7 +246,7 @@ public class Connection implements AutoCloseable {
      */
     @Override
     public void close() {
-        if (api != null) {
+        if (api != 0) {
             try {
                 disconnect();
             } catch (PrivmxException e) {
@@ -12,9 +12,12 @@
 package com.simplito.java.privmx_endpoint.modules.core;
 
 import com.simplito.java.privmx_endpoint.model.Event;
+import com.simplito.java.privmx_endpoint.model.EventFilter;
 import com.simplito.java.privmx_endpoint.model.exceptions.NativeException;
 import com.simplito.java.privmx_endpoint.model.exceptions.PrivmxException;
 
+import java.util.List;
+
 /**
  * Defines methods to working with Events queue.
  */
@@ -25,6 +28,7 @@ public class EventQueue {
     /**
      * Puts the break event on the events queue.
      * You can use it to break the {@link #waitEvent()}.
+     * To poll the queue without blocking indefinitely use {@link #waitEvent(long)}.
      *
      * @throws PrivmxException thrown when method encounters an exception.
      * @throws NativeException thrown when method encounters an unknown exception.
@@ -40,6 +44,16 @@ public class EventQueue {
      */
     public static native Event<?> waitEvent() throws PrivmxException, NativeException;
 
+    /**
+     * Waits for event on current thread, but no longer than {@code timeoutMillis}.
+     *
+     * @param timeoutMillis maximum time to wait in milliseconds, {@code 0} returns immediately
+     * @return Caught event or {@code null} if no event arrived before timeout
+     * @throws PrivmxException thrown when method encounters an exception.
+     * @throws NativeException thrown when method encounters an unknown exception.
+     */
+    public static native Event<?> waitEvent(long timeoutMillis) throws PrivmxException, NativeException;
+
     /**
      * Gets the first event from the events queue.
      *
@@ -48,4 +62,76 @@ public class EventQueue {
      * @throws NativeException thrown when method encounters an unknown exception.
      */
     public static native Event<?> getEvent() throws PrivmxException, NativeException;
-}
\ No newline at end of file
+
+    /**
+     * Waits up to {@code timeoutMillis} for the first event and then removes
+     * up to {@code maxEvents} events already waiting in the queue, converting all of them in a single call.
+     *
+     * @param maxEvents     maximum number of returned events, must be greater than 0
+     * @param timeoutMillis maximum time to wait for the first event in milliseconds, {@code 0} returns immediately
+     * @return list of caught events in queue order, empty if no event arrived before timeout
+     * @throws IllegalArgumentException thrown when {@code maxEvents} is not greater than 0.
+     * @throws PrivmxException          thrown when method encounters an exception.
+     * @throws NativeException          thrown when method encounters an unknown exception.
+     */
+    public static native List<Event<?>> drainEvents(int maxEvents, long timeoutMillis) throws PrivmxException, NativeException, IllegalArgumentException;
+
+    /**
+     * Sets filter evaluated natively for every incoming event, so rejected events are never
+     * converted to Java objects. Events already waiting in the queue are filtered as well.
+     * Library events, such as {@code libBreak}, always pass the filter.
+     *
+     * @param filter filter to apply, {@code null} accepts all events
+     * @throws PrivmxException thrown when method encounters an exception.
+     * @throws NativeException thrown when method encounters an unknown exception.
+     */
+    public static native void setEventFilter(EventFilter filter) throws PrivmxException, NativeException;
+
+    /**
+     * Enables lazy payloads of message and file events.
+     * When enabled, data of {@code threadNewMessage} and {@code threadUpdatedMessage} events is
+     * {@link com.simplito.java.privmx_endpoint.model.LazyMessage} and data of {@code storeFileCreated}
+     * and {@code storeFileUpdated} events is {@link com.simplito.java.privmx_endpoint.model.LazyFile}.
+     * Their byte fields stay in native memory until read with getters, so handlers using only
+     * IDs and server info do not copy message contents.
+     *
+     * @param enabled {@code true} to deliver lazy payloads, {@code false} to copy all fields eagerly (default)
+     */
+    public static native void setLazyPayloads(boolean enabled);
+
+    /**
+     * Splits queued events into shards by connection ID, so each shard can be drained by a separate thread
+     * using {@link #drainShardEvents(int, int, long)}. Events of one connection always belong to the same shard
+     * and keep their order. Library events without connection are put in shard 0, except {@code libBreak}
+     * which is put in every shard. Methods reading the whole queue take events from all shards,
+     * keeping order only within each connection.
+     *
+     * @param shardCount number of shards, {@code 1} by default
+     * @throws IllegalArgumentException thrown when {@code shardCount} is not greater than 0.
+     * @throws PrivmxException          thrown when method encounters an exception.
+     * @throws NativeException          thrown when method encounters an unknown exception.
+     */
+    public static native void setShardCount(int shardCount) throws PrivmxException, NativeException, IllegalArgumentException;
+
+    /**
+     * Returns number of shards set by {@link #setShardCount(int)}.
+     *
+     * @return number of shards
+     */
+    public static native int getShardCount();
+
+    /**
+     * Waits up to {@code timeoutMillis} for the first event of given shard and then removes
+     * up to {@code maxEvents} events already waiting in it.
+     *
+     * @param shard         index of the shard, from {@code 0} to {@link #getShardCount()} exclusive
+     * @param maxEvents     maximum number of returned events, must be greater than 0
+     * @param timeoutMillis maximum time to wait for the first event in milliseconds, {@code 0} returns immediately
+     * @return list of caught events in queue order, empty if no event arrived before timeout
+     * or the shard was removed by changing shard count
+     * @throws IllegalArgumentException thrown when {@code shard} is out of range or {@code maxEvents} is not greater than 0.
+     * @throws PrivmxException          thrown when method encounters an exception.
+     * @throws NativeException          thrown when method encounters an unknown exception.
+     */
+    public static native List<Event<?>> drainShardEvents(int shard, int maxEvents, long timeoutMillis) throws PrivmxException, NativeException, IllegalArgumentException;
+}
@@ -26,7 +26,7 @@ public class CryptoApi implements AutoCloseable {
     }
 
     @SuppressWarnings("FieldCanBeLocal")
-    private final Long api;
+    private long api;
 
     /**
      * Create instance of {@code CryptoApi}.
@@ -35,7 +35,7 @@ public class CryptoApi implements AutoCloseable {
         api = init();
     }
 
-    private native Long init();
+    private native long init();
 
     private native void deinit() throws IllegalStateException;
 
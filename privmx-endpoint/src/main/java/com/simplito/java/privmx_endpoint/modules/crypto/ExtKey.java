@@ -24,9 +24,9 @@ public class ExtKey implements AutoCloseable {
         System.loadLibrary("privmx-endpoint-java");
     }
 
-    private final Long key;
+    private long key;
 
-    private ExtKey(Long key) {
+    private ExtKey(long key) {
         this.key = key;
     }
 
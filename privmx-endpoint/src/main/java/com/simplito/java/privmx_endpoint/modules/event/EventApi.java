@@ -29,7 +29,7 @@ public class EventApi implements AutoCloseable {
         System.loadLibrary("privmx-endpoint-java");
     }
 
-    private final Long api;
+    private long api;
 
     /**
      * Initialize Event module on passed active connection.
@@ -42,7 +42,7 @@ public class EventApi implements AutoCloseable {
         this.api = init(connection);
     }
 
-    private native Long init(Connection connection) throws IllegalStateException;
+    private native long init(Connection connection) throws IllegalStateException;
 
     private native void deinit() throws IllegalStateException;
 
@@ -23,6 +23,9 @@ import com.simplito.java.privmx_endpoint.model.exceptions.NativeException;
 import com.simplito.java.privmx_endpoint.model.exceptions.PrivmxException;
 import com.simplito.java.privmx_endpoint.modules.core.Connection;
 
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.util.List;
 import java.util.Objects;
 
@@ -37,7 +40,7 @@ public class StoreApi implements AutoCloseable {
     }
 
     @SuppressWarnings("FieldCanBeLocal")
-    private final Long api;
+    private long api;
 
     /**
      * Initialize Store module on passed active connection.
@@ -50,7 +53,7 @@ public class StoreApi implements AutoCloseable {
         this.api = init(connection);
     }
 
-    private native Long init(Connection connection) throws IllegalStateException;
+    private native long init(Connection connection) throws IllegalStateException;
 
     private native void deinit() throws IllegalStateException;
 
@@ -289,6 +292,21 @@ public class StoreApi implements AutoCloseable {
      */
     public native void writeToFile(long fileHandle, byte[] dataChunk) throws PrivmxException, NativeException, IllegalStateException;
 
+    /**
+     * Writes a file data directly from a direct {@link ByteBuffer}, without copying it into a Java array.
+     * The buffer's position and limit are not used nor modified.
+     *
+     * @param fileHandle handle to write file data
+     * @param dataChunk  direct buffer with file data
+     * @param offset     index of the first byte in the buffer to write
+     * @param length     number of bytes to write
+     * @throws IllegalArgumentException thrown when buffer is not direct or the region exceeds its capacity.
+     * @throws IllegalStateException    thrown when instance is closed.
+     * @throws PrivmxException          thrown when method encounters an exception.
+     * @throws NativeException          thrown when method encounters an unknown exception.
+     */
+    public native void writeToFile(long fileHandle, ByteBuffer dataChunk, int offset, int length) throws PrivmxException, NativeException, IllegalStateException, IllegalArgumentException;
+
     /**
      * Deletes a file by given ID.
      *
@@ -386,6 +404,72 @@ public class StoreApi implements AutoCloseable {
      */
     public native byte[] readFromFile(long fileHandle, long length) throws PrivmxException, NativeException, IllegalStateException;
 
+    /**
+     * Reads file data into a caller-supplied array.
+     *
+     * @param fileHandle handle to read file data
+     * @param dst        array to which data is written
+     * @param offset     index in {@code dst} of the first byte to write
+     * @param length     maximum number of bytes to read
+     * @return number of bytes read, {@code 0} if the end of file has been reached
+     * @throws IllegalArgumentException thrown when the region exceeds {@code dst} size.
+     * @throws IllegalStateException    thrown when instance is closed.
+     * @throws PrivmxException          thrown when method encounters an exception.
+     * @throws NativeException          thrown when method encounters an unknown exception.
+     */
+    public native int readFromFile(long fileHandle, byte[] dst, int offset, int length) throws PrivmxException, NativeException, IllegalStateException, IllegalArgumentException;
+
+    /**
+     * Reads file data directly into a direct {@link ByteBuffer}.
+     * The buffer's position and limit are not used nor modified.
+     *
+     * @param fileHandle handle to read file data
+     * @param dst        direct buffer to which data is written
+     * @param offset     index in {@code dst} of the first byte to write
+     * @param length     maximum number of bytes to read
+     * @return number of bytes read, {@code 0} if the end of file has been reached
+     * @throws IllegalArgumentException thrown when buffer is not direct or the region exceeds its capacity.
+     * @throws ReadOnlyBufferException  thrown when {@code dst} is read-only.
+     * @throws IllegalStateException    thrown when instance is closed.
+     * @throws PrivmxException          thrown when method encounters an exception.
+     * @throws NativeException          thrown when method encounters an unknown exception.
+     */
+    public int readFromFile(long fileHandle, ByteBuffer dst, int offset, int length) throws PrivmxException, NativeException, IllegalStateException, IllegalArgumentException {
+        Objects.requireNonNull(dst);
+        if (dst.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+        return readFromFileDirect(fileHandle, dst, offset, length);
+    }
+
+    private native int readFromFileDirect(long fileHandle, ByteBuffer dst, int offset, int length) throws PrivmxException, NativeException, IllegalStateException, IllegalArgumentException;
+
+    /**
+     * Reads file data into the remaining space of the given buffer and advances its position
+     * by the number of bytes read. Both direct and array-backed buffers are supported,
+     * so a single buffer can be reused for the whole download.
+     *
+     * @param fileHandle handle to read file data
+     * @param dst        buffer to which data is written
+     * @return number of bytes read, {@code 0} if the end of file has been reached
+     * @throws ReadOnlyBufferException thrown when {@code dst} is read-only.
+     * @throws IllegalStateException   thrown when instance is closed.
+     * @throws PrivmxException         thrown when method encounters an exception.
+     * @throws NativeException         thrown when method encounters an unknown exception.
+     */
+    public int readFromFile(long fileHandle, ByteBuffer dst) throws PrivmxException, NativeException, IllegalStateException {
+        Objects.requireNonNull(dst);
+        if (dst.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+        int position = dst.position();
+        int read = dst.isDirect()
+                ? readFromFile(fileHandle, dst, position, dst.remaining())
+                : readFromFile(fileHandle, dst.array(), dst.arrayOffset() + position, dst.remaining());
+        ((Buffer) dst).position(position + read);
+        return read;
+    }
+
     /**
      * Moves read cursor.
      *
@@ -37,7 +37,7 @@ public class ThreadApi implements AutoCloseable {
     }
 
     @SuppressWarnings("FieldCanBeLocal")
-    private final Long api;
+    private long api;
 
     /**
      * Initialize Thread module on given active connection.
@@ -50,7 +50,7 @@ public class ThreadApi implements AutoCloseable {
         this.api = init(connection);
     }
 
-    private native Long init(Connection connection) throws IllegalStateException;
+    private native long init(Connection connection) throws IllegalStateException;
 
     private native void deinit() throws IllegalStateException;
 